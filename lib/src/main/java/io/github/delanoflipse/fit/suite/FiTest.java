@@ -31,16 +31,90 @@ public @interface FiTest {
 
     boolean checkAllPruners() default false;
 
+    /**
+     * Reorder pruners by their observed hit rate per unit of time, and skip
+     * the remaining pruners once one of them prunes.
+     */
+    boolean adaptivePruning() default false;
+
     long maxTestCases() default 0;
 
     long maxTimeS() default 0;
 
+    /**
+     * Treat maxTimeS as a budget, and prefer faultloads with the most expected
+     * information per second. Can also be enabled with the TIME_BUDGET_S
+     * environment variable, which overrides maxTimeS.
+     */
+    boolean budgetAware() default false;
+
+    /**
+     * Only run the faultloads in shard i/n (0 <= i < n) of the fault space,
+     * e.g. "0/4". The happy path runs in every shard. Can be set with the
+     * SHARD environment variable.
+     */
+    String shard() default "";
+
     int maxFaultloadSize() default 0;
 
     int initialGetTraceDelay() default 0;
 
     Class<?>[] additionalComponents() default {};
 
+    /**
+     * The number of faultloads that can be in flight at the same time.
+     * Values above 1 only have effect if JUnit runs the test method concurrently
+     * (e.g. {@code @Execution(ExecutionMode.CONCURRENT)} with parallel execution
+     * enabled, and a parallelism of at least lanes + 1).
+     */
+    int lanes() default 1;
+
+    /**
+     * Register faultloads ahead of their test, and unregister them in the
+     * background, to keep controller round trips off the critical path.
+     */
+    boolean pipelined() default false;
+
+    /**
+     * Number of faultloads to generate in the background while a test is
+     * running. Speculated faultloads are reconsidered after each result.
+     */
+    int speculate() default 0;
+
+    /**
+     * Write a checkpoint of the exploration after every n results (0 disables).
+     * Can be overridden with the CHECKPOINT_INTERVAL environment variable.
+     */
+    int checkpointInterval() default 0;
+
+    /**
+     * Continue from the checkpoint of a previous run, if it exists.
+     * Can be enabled with the RESUME environment variable.
+     */
+    boolean resume() default false;
+
+    /**
+     * Preload the knowledge learned by previous runs, and store the knowledge
+     * of this run for the next. Can be enabled with the WARM_START environment
+     * variable.
+     */
+    boolean warmStart() default false;
+
+    /**
+     * Only re-execute faultloads that involve a service whose image changed
+     * since the previous run, and carry over the results of the others.
+     * Requires an InstrumentedApp controller. Can be enabled with the
+     * RERUN_CHANGED environment variable.
+     */
+    boolean rerunChanged() default false;
+
+    /**
+     * Serve outcomes of faultloads that already ran against the same
+     * application from a local cache, instead of running them again.
+     * Can be enabled with the OUTCOME_CACHE environment variable.
+     */
+    boolean cacheOutcomes() default false;
+
     /** The order in which points in the trace analysis are considered */
     TraversalOrder pointOrder() default TraversalOrder.DEPTH_FIRST_POST_ORDER;
 
@@ -2,8 +2,10 @@ package io.github.delanoflipse.fit.suite;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
@@ -20,8 +22,13 @@ import org.slf4j.LoggerFactory;
 import io.github.delanoflipse.fit.suite.faultload.modes.ErrorFault;
 import io.github.delanoflipse.fit.suite.faultload.modes.FailureMode;
 import io.github.delanoflipse.fit.suite.faultload.modes.HttpError;
+import io.github.delanoflipse.fit.suite.instrument.ControllerPipeline;
 import io.github.delanoflipse.fit.suite.instrument.FaultController;
+import io.github.delanoflipse.fit.suite.instrument.InstrumentedApp;
 import io.github.delanoflipse.fit.suite.strategy.FaultloadResult;
+import io.github.delanoflipse.fit.suite.strategy.FaultloadShard;
+import io.github.delanoflipse.fit.suite.strategy.OutcomeCache;
+import io.github.delanoflipse.fit.suite.strategy.RunHistory;
 import io.github.delanoflipse.fit.suite.strategy.StrategyRunner;
 import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
 import io.github.delanoflipse.fit.suite.strategy.components.analyzers.BehaviorAnalyzer;
@@ -40,6 +47,8 @@ import io.github.delanoflipse.fit.suite.strategy.components.pruners.DynamicReduc
 import io.github.delanoflipse.fit.suite.strategy.components.pruners.FaultloadSizePruner;
 import io.github.delanoflipse.fit.suite.strategy.components.pruners.NoImpactPruner;
 import io.github.delanoflipse.fit.suite.strategy.components.pruners.UnreachabilityPruner;
+import io.github.delanoflipse.fit.suite.strategy.distributed.ExplorationCoordinator;
+import io.github.delanoflipse.fit.suite.strategy.distributed.ExplorationWorker;
 import io.github.delanoflipse.fit.suite.strategy.util.Env;
 import io.github.delanoflipse.fit.suite.strategy.util.TraceAnalysis;
 import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
@@ -48,6 +57,10 @@ import io.github.delanoflipse.fit.suite.util.TaggedTimer;
 public class FiTestExtension
         implements TestTemplateInvocationContextProvider {
     private StrategyRunner strategy;
+    private ControllerPipeline pipeline = null;
+    private OutcomeCache outcomeCache = null;
+    private ExplorationCoordinator coordinator = null;
+    private ExplorationWorker worker = null;
     private static final String OUTPUT_DIR_KEY = "dsfit.output.dir";
     private final TaggedTimer totalTimer = new TaggedTimer();
     private static final Logger logger = LoggerFactory.getLogger(FiTestExtension.class);
@@ -118,7 +131,14 @@ public class FiTestExtension
                 .withComponent(new BehaviorAnalyzer())
                 .withComponent(new TimingAnalyzer())
                 .withComponent(new StatusPropagationOracle())
-                .withComponent(new ConcurrencyDetector())
+                .withComponent(new ConcurrencyDetector());
+
+        // The size pruner is nearly free, so it goes before the expensive ones
+        if (maxFaultloadSize > 0) {
+            strategy.withComponent(new FaultloadSizePruner(maxFaultloadSize));
+        }
+
+        strategy
                 .withComponent(new UnreachabilityPruner())
                 .withComponent(new NoImpactPruner(pruneImpactless))
                 .withComponent(new DynamicReductionPruner());
@@ -127,14 +147,13 @@ public class FiTestExtension
             strategy.withMaxTestCases(annotation.maxTestCases());
         }
 
-        if (annotation.maxTimeS() > 0) {
+        long budgetS = getTimeBudgetS(annotation);
+        if (budgetS > 0) {
+            strategy.withTimeBudget(budgetS);
+        } else if (annotation.maxTimeS() > 0) {
             strategy.withMaxTimeS(annotation.maxTimeS());
         }
 
-        if (maxFaultloadSize > 0) {
-            strategy.withComponent(new FaultloadSizePruner(maxFaultloadSize));
-        }
-
         if (annotation.failStop()) {
             strategy.withStopOnError();
         }
@@ -155,6 +174,10 @@ public class FiTestExtension
             strategy.withCheckAllPruners();
         }
 
+        if (annotation.adaptivePruning()) {
+            strategy.withAdaptivePruning();
+        }
+
         if (annotation.withCallStack()) {
             strategy.withCallStack();
         }
@@ -163,6 +186,14 @@ public class FiTestExtension
             strategy.withGetDelay(annotation.initialGetTraceDelay());
         }
 
+        if (annotation.lanes() > 1) {
+            strategy.withLanes(annotation.lanes());
+        }
+
+        if (annotation.speculate() > 0) {
+            strategy.withSpeculation(annotation.speculate());
+        }
+
         String outputConfig = getOutputDir(context);
         if (outputConfig != null) {
             Path outputDir;
@@ -195,6 +226,11 @@ public class FiTestExtension
             }
         }
 
+        configureKnowledgeBase(annotation);
+        configureCheckpoints(annotation);
+        configureDistribution();
+        configureShard(annotation);
+
         Class<?> testClass = context.getRequiredTestClass();
         FaultController controller;
 
@@ -209,6 +245,13 @@ public class FiTestExtension
             throw new RuntimeException("Failed to access getControleler from test class", e);
         }
 
+        if (annotation.pipelined()) {
+            pipeline = new ControllerPipeline(controller);
+        }
+
+        configureRunHistory(annotation, controller);
+        configureOutcomeCache(annotation, controller);
+
         return Stream
                 .generate(() -> createInvocationContext(strategy, controller))
                 .takeWhile(ctx -> ctx != null)
@@ -217,6 +260,222 @@ public class FiTestExtension
                 });
     }
 
+    private Path getCheckpointFile() {
+        String envFile = Env.getEnv(Env.Keys.CHECKPOINT_FILE);
+        if (!envFile.equals("")) {
+            return Path.of(envFile);
+        }
+
+        if (!strategy.hasOutputDir()) {
+            return null;
+        }
+
+        return strategy.getOutputDir()
+                .resolve(strategy.getContextName())
+                .resolve(Env.getEnv(Env.Keys.OUTPUT_TAG))
+                .resolve("checkpoint.json.gz");
+    }
+
+    private void configureShard(FiTest annotation) {
+        String shard = Env.getEnv(Env.Keys.SHARD);
+        if (shard.isEmpty()) {
+            shard = annotation.shard();
+        }
+
+        if (shard.isEmpty()) {
+            return;
+        }
+
+        FaultloadShard faultloadShard = FaultloadShard.parse(shard);
+        logger.info("Exploring shard {} of the fault space", faultloadShard);
+        strategy.withShard(faultloadShard);
+    }
+
+    private void configureDistribution() {
+        String address = Env.getEnv(Env.Keys.COORDINATOR_ADDRESS);
+        String port = Env.getEnv(Env.Keys.COORDINATOR_PORT);
+
+        if (!address.isEmpty()) {
+            try {
+                worker = ExplorationWorker.connect(address);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to connect to coordinator " + address, e);
+            }
+
+            logger.info("Running faultloads of coordinator {}", address);
+            strategy.withCoordinator(worker, Integer.parseInt(Env.getEnv(Env.Keys.WORKER_LEASE_SIZE)));
+            return;
+        }
+
+        if (!port.isEmpty()) {
+            // This process also runs faultloads, next to the remote workers
+            strategy.withLanes(Integer.parseInt(Env.getEnv(Env.Keys.COORDINATOR_LANES)));
+
+            try {
+                String bindAddress = Env.getEnv(Env.Keys.COORDINATOR_BIND_ADDRESS);
+                coordinator = bindAddress.isEmpty()
+                        ? new ExplorationCoordinator(strategy, Integer.parseInt(port))
+                        : new ExplorationCoordinator(strategy, InetAddress.getByName(bindAddress),
+                                Integer.parseInt(port));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to start coordinator on port " + port, e);
+            }
+
+            coordinator.start();
+        }
+    }
+
+    private long getTimeBudgetS(FiTest annotation) {
+        String envBudget = Env.getEnv(Env.Keys.TIME_BUDGET_S);
+
+        if (!envBudget.isEmpty()) {
+            try {
+                return Long.parseLong(envBudget);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid time budget {}, ignoring.", envBudget);
+            }
+        }
+
+        return annotation.budgetAware() ? annotation.maxTimeS() : 0;
+    }
+
+    private void configureKnowledgeBase(FiTest annotation) {
+        if (!annotation.warmStart() && !Env.getEnvBool(Env.Keys.WARM_START)) {
+            return;
+        }
+
+        Path knowledgeFile;
+        String envFile = Env.getEnv(Env.Keys.KNOWLEDGE_FILE);
+
+        if (!envFile.equals("")) {
+            knowledgeFile = Path.of(envFile);
+        } else if (strategy.hasOutputDir()) {
+            // Shared between runs of the same test
+            knowledgeFile = strategy.getOutputDir()
+                    .resolve(strategy.getContextName())
+                    .resolve("knowledge.json.gz");
+        } else {
+            logger.warn("Warm starts require an output directory or KNOWLEDGE_FILE, ignoring.");
+            return;
+        }
+
+        try {
+            strategy.withKnowledgeBase(knowledgeFile);
+        } catch (IOException e) {
+            logger.warn("Failed to preload knowledge from {}, starting cold.", knowledgeFile, e);
+        }
+    }
+
+    private void configureRunHistory(FiTest annotation, FaultController controller) {
+        if (!annotation.rerunChanged() && !Env.getEnvBool(Env.Keys.RERUN_CHANGED)) {
+            return;
+        }
+
+        if (!(controller instanceof InstrumentedApp app)) {
+            logger.warn("Change-impact re-runs require an InstrumentedApp controller, ignoring.");
+            return;
+        }
+
+        Path historyDir;
+        String envDir = Env.getEnv(Env.Keys.HISTORY_DIR);
+
+        if (!envDir.equals("")) {
+            historyDir = Path.of(envDir);
+        } else if (strategy.hasOutputDir()) {
+            historyDir = strategy.getOutputDir()
+                    .resolve(strategy.getContextName())
+                    .resolve("history");
+        } else {
+            logger.warn("Change-impact re-runs require an output directory or HISTORY_DIR, ignoring.");
+            return;
+        }
+
+        Map<String, String> digests = app.getImageDigests();
+
+        try {
+            if (RunHistory.exists(historyDir)) {
+                strategy.withPreviousRun(RunHistory.read(historyDir), digests);
+            }
+
+            strategy.withRunRecorder(new RunHistory.Recorder(historyDir, digests));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to set up the run history in " + historyDir, e);
+        }
+    }
+
+    private void configureOutcomeCache(FiTest annotation, FaultController controller) {
+        if (!annotation.cacheOutcomes() && !Env.getEnvBool(Env.Keys.OUTCOME_CACHE)) {
+            return;
+        }
+
+        Path cacheFile;
+        String envFile = Env.getEnv(Env.Keys.OUTCOME_CACHE_FILE);
+
+        if (!envFile.equals("")) {
+            cacheFile = Path.of(envFile);
+        } else if (strategy.hasOutputDir()) {
+            // Shared between all tags (e.g. parameter sweeps) of the same test
+            cacheFile = strategy.getOutputDir()
+                    .resolve(strategy.getContextName())
+                    .resolve("outcomes.cache");
+        } else {
+            logger.warn("The outcome cache requires an output directory or OUTCOME_CACHE_FILE, ignoring.");
+            return;
+        }
+
+        String fingerprint = Env.getEnv(Env.Keys.APP_FINGERPRINT);
+        if (fingerprint.equals("") && controller instanceof InstrumentedApp app) {
+            fingerprint = app.getImageDigests().entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(e -> e.getKey() + "=" + e.getValue())
+                    .reduce((a, b) -> a + "," + b)
+                    .orElse("");
+        }
+
+        if (fingerprint.equals("")) {
+            logger.warn("The application cannot be fingerprinted, set APP_FINGERPRINT to avoid stale outcomes.");
+        }
+
+        try {
+            outcomeCache = new OutcomeCache(cacheFile);
+            strategy.withOutcomeCache(outcomeCache, fingerprint);
+        } catch (IOException e) {
+            logger.warn("Failed to open the outcome cache {}, ignoring.", cacheFile, e);
+        }
+    }
+
+    private void configureCheckpoints(FiTest annotation) {
+        String envInterval = Env.getEnv(Env.Keys.CHECKPOINT_INTERVAL);
+        int interval = envInterval.equals("") ? annotation.checkpointInterval() : Integer.parseInt(envInterval);
+        boolean resume = annotation.resume() || Env.getEnvBool(Env.Keys.RESUME);
+
+        if (interval <= 0 && !resume) {
+            return;
+        }
+
+        Path checkpointFile = getCheckpointFile();
+        if (checkpointFile == null) {
+            logger.warn("Checkpoints require an output directory or CHECKPOINT_FILE, ignoring.");
+            return;
+        }
+
+        if (resume) {
+            if (checkpointFile.toFile().exists()) {
+                try {
+                    strategy.resumeFrom(checkpointFile);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to resume from checkpoint " + checkpointFile, e);
+                }
+            } else {
+                logger.warn("No checkpoint found at {}, starting a new exploration.", checkpointFile);
+            }
+        }
+
+        if (interval > 0) {
+            strategy.withCheckpoint(checkpointFile, interval);
+        }
+    }
+
     private TestTemplateInvocationContext createInvocationContext(StrategyRunner strategy, FaultController controller) {
         TaggedTimer strategyTimer = new TaggedTimer();
         strategyTimer.start("nextFaultload");
@@ -228,6 +487,11 @@ public class FiTestExtension
             return null;
         }
 
+        if (pipeline != null) {
+            // Register while the previous test is still running
+            pipeline.register(faultload);
+        }
+
         return new TestTemplateInvocationContext() {
             @Override
             public String getDisplayName(int invocationIndex) {
@@ -239,13 +503,37 @@ public class FiTestExtension
             public List<Extension> getAdditionalExtensions() {
                 return List.of(
                         new QueueParameterResolver(faultload),
-                        new BeforeTestExtension(faultload, controller),
-                        new AfterTestExtension(faultload, strategy, controller));
+                        new BeforeTestExtension(faultload, controller, pipeline),
+                        new AfterTestExtension(faultload, strategy, controller, pipeline));
             }
         };
     }
 
     public void afterAll() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+
+        try {
+            if (coordinator != null) {
+                coordinator.close();
+            }
+
+            if (worker != null) {
+                worker.close();
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to close distributed exploration", e);
+        }
+
+        if (outcomeCache != null) {
+            try {
+                outcomeCache.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close the outcome cache", e);
+            }
+        }
+
         totalTimer.stop("Total test time");
         strategy.registerTime(totalTimer);
         strategy.statistics.setSize(strategy.getGenerator().spaceSize());
@@ -275,10 +563,12 @@ public class FiTestExtension
     private static class BeforeTestExtension implements BeforeTestExecutionCallback {
         private final TrackedFaultload faultload;
         private final FaultController controller;
+        private final ControllerPipeline pipeline;
 
-        BeforeTestExtension(TrackedFaultload faultload, FaultController controller) {
+        BeforeTestExtension(TrackedFaultload faultload, FaultController controller, ControllerPipeline pipeline) {
             this.faultload = faultload;
             this.controller = controller;
+            this.pipeline = pipeline;
         }
 
         @Override
@@ -292,6 +582,19 @@ public class FiTestExtension
             logger.info("Test " + displayName);
 
             faultload.timer.start("Per test");
+
+            if (pipeline != null) {
+                faultload.timer.start("awaitRegistration");
+                try {
+                    pipeline.awaitRegistration(faultload);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to register faultload", e);
+                }
+                faultload.timer.stop("awaitRegistration");
+                faultload.timer.start("testMethod");
+                return;
+            }
+
             faultload.timer.start("registerFaultload");
             try {
                 controller.registerFaultload(faultload);
@@ -308,11 +611,14 @@ public class FiTestExtension
         private final TrackedFaultload faultload;
         private final StrategyRunner strategy;
         private final FaultController controller;
+        private final ControllerPipeline pipeline;
 
-        AfterTestExtension(TrackedFaultload faultload, StrategyRunner strategy, FaultController controller) {
+        AfterTestExtension(TrackedFaultload faultload, StrategyRunner strategy, FaultController controller,
+                ControllerPipeline pipeline) {
             this.faultload = faultload;
             this.strategy = strategy;
             this.controller = controller;
+            this.pipeline = pipeline;
         }
 
         @Override
@@ -325,7 +631,7 @@ public class FiTestExtension
             boolean testFailed = context.getExecutionException().isPresent();
             logger.info("Invariant: " + (testFailed ? "VIOLATED" : "HOLDS"));
 
-            strategy.statistics.registerRun();
+            strategy.registerRun();
 
             try {
                 TraceAnalysis trace = controller.getTrace(faultload);
@@ -337,6 +643,16 @@ public class FiTestExtension
                 faultload.timer.stop("handleResult");
             } catch (IOException e) {
                 e.printStackTrace();
+                strategy.discardResult(faultload);
+            }
+
+            if (pipeline != null) {
+                // Cleanup and bookkeeping do not influence the next faultload
+                pipeline.unregister(faultload, () -> {
+                    faultload.timer.stop("Per test");
+                    strategy.registerTime(faultload);
+                });
+                return;
             }
 
             faultload.timer.start("unregisterFautload");
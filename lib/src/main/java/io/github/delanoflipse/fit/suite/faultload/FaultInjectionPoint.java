@@ -1,8 +1,10 @@
 package io.github.delanoflipse.fit.suite.faultload;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -10,21 +12,131 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import io.github.delanoflipse.fit.suite.strategy.util.Sets;
 
+/**
+ * A point in the call graph where faults can be injected.
+ *
+ * Points are immutable values. Points created through {@link #of} are
+ * interned: every distinct point has one canonical instance, with a unique id
+ * and a precomputed hash.
+ */
 @JsonSerialize
 @JsonDeserialize
-public record FaultInjectionPoint(String destination, String signature, String payload,
-        @JsonProperty("call_stack") Map<String, Integer> callStack, int count) {
+public final class FaultInjectionPoint {
     private static final String ANY_WILDCARD = "*";
 
-    public FaultInjectionPoint {
+    // Symbol table of canonical points, dropped once unused
+    private static final WeakInterner<FaultInjectionPoint> interned = new WeakInterner<>();
+
+    private final String destination;
+    private final String signature;
+    private final String payload;
+    private final Map<String, Integer> callStack;
+    private final int count;
+    private final int hash;
+    private volatile int id = -1;
+
+    public FaultInjectionPoint(String destination, String signature, String payload,
+            Map<String, Integer> callStack, int count) {
+        this.destination = destination;
+        this.signature = signature;
+        this.payload = payload;
         // Ensure map is immutable
-        if (callStack != null) {
-            callStack = Map.copyOf(callStack);
+        this.callStack = callStack == null ? null : Map.copyOf(callStack);
+        this.count = count;
+
+        // Same hash as the equivalent record, so iteration orders are stable
+        int h = Objects.hashCode(destination);
+        h = h * 31 + Objects.hashCode(signature);
+        h = h * 31 + Objects.hashCode(payload);
+        h = h * 31 + Objects.hashCode(this.callStack);
+        h = h * 31 + Integer.hashCode(count);
+        this.hash = h;
+    }
+
+    /** The canonical instance of the point */
+    @JsonCreator
+    public static FaultInjectionPoint of(@JsonProperty("destination") String destination,
+            @JsonProperty("signature") String signature,
+            @JsonProperty("payload") String payload,
+            @JsonProperty("call_stack") Map<String, Integer> callStack,
+            @JsonProperty("count") int count) {
+        return new FaultInjectionPoint(destination, signature, payload, callStack, count).intern();
+    }
+
+    /** The canonical instance of this point */
+    public FaultInjectionPoint intern() {
+        if (id >= 0) {
+            return this;
+        }
+
+        return interned.intern(this, assigned -> id = assigned);
+    }
+
+    /** Unique id of the canonical instance, or -1 if not interned */
+    @JsonIgnore
+    public int getId() {
+        return id;
+    }
+
+    /** Number of distinct interned points */
+    public static int internedCount() {
+        return interned.size();
+    }
+
+    @JsonProperty("destination")
+    public String destination() {
+        return destination;
+    }
+
+    @JsonProperty("signature")
+    public String signature() {
+        return signature;
+    }
+
+    @JsonProperty("payload")
+    public String payload() {
+        return payload;
+    }
+
+    @JsonProperty("call_stack")
+    public Map<String, Integer> callStack() {
+        return callStack;
+    }
+
+    @JsonProperty("count")
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof FaultInjectionPoint other) || hash != other.hash) {
+            return false;
+        }
+
+        // Distinct canonical instances are distinct values
+        if (id >= 0 && other.id >= 0) {
+            return false;
         }
+
+        return count == other.count
+                && Objects.equals(destination, other.destination)
+                && Objects.equals(signature, other.signature)
+                && Objects.equals(payload, other.payload)
+                && Objects.equals(callStack, other.callStack);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     public static FaultInjectionPoint Any() {
-        return new FaultInjectionPoint(ANY_WILDCARD, ANY_WILDCARD, ANY_WILDCARD, null, -1);
+        return of(ANY_WILDCARD, ANY_WILDCARD, ANY_WILDCARD, null, -1);
     }
 
     @JsonIgnore
@@ -49,23 +161,23 @@ public record FaultInjectionPoint(String destination, String signature, String p
 
     // Builder patterns
     public FaultInjectionPoint withDestination(String destination) {
-        return new FaultInjectionPoint(destination, signature, payload, callStack, count);
+        return of(destination, signature, payload, callStack, count);
     }
 
     public FaultInjectionPoint withSignature(String signature) {
-        return new FaultInjectionPoint(destination, signature, payload, callStack, count);
+        return of(destination, signature, payload, callStack, count);
     }
 
     public FaultInjectionPoint withPayload(String payload) {
-        return new FaultInjectionPoint(destination, signature, payload, callStack, count);
+        return of(destination, signature, payload, callStack, count);
     }
 
     public FaultInjectionPoint withCallStack(Map<String, Integer> callStack) {
-        return new FaultInjectionPoint(destination, signature, payload, callStack, count);
+        return of(destination, signature, payload, callStack, count);
     }
 
     public FaultInjectionPoint withCount(int count) {
-        return new FaultInjectionPoint(destination, signature, payload, callStack, count);
+        return of(destination, signature, payload, callStack, count);
     }
 
     @Override
@@ -93,17 +205,17 @@ public record FaultInjectionPoint(String destination, String signature, String p
 
     @JsonIgnore
     public FaultInjectionPoint asAnyPayload() {
-        return new FaultInjectionPoint(destination, signature, "*", callStack, count);
+        return of(destination, signature, "*", callStack, count);
     }
 
     @JsonIgnore
     public FaultInjectionPoint asAnyCount() {
-        return new FaultInjectionPoint(destination, signature, payload, callStack, -1);
+        return of(destination, signature, payload, callStack, -1);
     }
 
     @JsonIgnore
     public FaultInjectionPoint asAnyCallStack() {
-        return new FaultInjectionPoint(destination, signature, payload, null, count);
+        return of(destination, signature, payload, null, count);
     }
 
     @JsonIgnore
@@ -0,0 +1,236 @@
+package io.github.delanoflipse.fit.suite.faultload;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import io.github.delanoflipse.fit.suite.faultload.modes.FailureMode;
+
+/**
+ * An immutable set of faults, encoded as a sorted array. Faults are ordered
+ * by the id of their interned uid, so equality and subset checks between two
+ * fault sets are a single merge pass, and a set only takes memory
+ * proportional to its own size.
+ *
+ * There is no shared index of faults: a set only refers to its own faults,
+ * which keeps their interned uids alive, and with them the order.
+ */
+public final class FaultSet extends AbstractSet<Fault> {
+    // Only the modes of a single uid are compared, so these are few
+    private static final Comparator<FailureMode> modeOrder = Comparator
+            .comparing(FailureMode::type)
+            .thenComparing(FailureMode::args, FaultSet::compareArgs);
+
+    private static final Comparator<Fault> order = Comparator
+            .comparingInt((Fault fault) -> fault.uid().getId())
+            .thenComparing(Fault::mode, modeOrder);
+
+    public static final FaultSet EMPTY = new FaultSet(new Fault[0]);
+
+    private final Fault[] faults;
+    private final int hash;
+
+    private FaultSet(Fault[] faults) {
+        this.faults = faults;
+
+        int sum = 0;
+        for (Fault fault : faults) {
+            // Sum of the element hashes, as required for a Set
+            sum += fault.hashCode();
+        }
+
+        this.hash = sum;
+    }
+
+    private static int compareArgs(List<String> a, List<String> b) {
+        for (int i = 0; i < Math.min(a.size(), b.size()); i++) {
+            int compared = a.get(i).compareTo(b.get(i));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+
+        return Integer.compare(a.size(), b.size());
+    }
+
+    /** The fault with an interned uid, as the order depends on its id */
+    private static Fault canonical(Fault fault) {
+        if (fault.uid().getId() >= 0) {
+            return fault;
+        }
+
+        return new Fault(fault.uid().intern(), fault.mode());
+    }
+
+    public static FaultSet of(Collection<Fault> faults) {
+        if (faults instanceof FaultSet faultSet) {
+            return faultSet;
+        }
+
+        if (faults.isEmpty()) {
+            return EMPTY;
+        }
+
+        Fault[] sorted = new Fault[faults.size()];
+        int size = 0;
+        for (Fault fault : faults) {
+            sorted[size++] = canonical(fault);
+        }
+
+        Arrays.sort(sorted, order);
+
+        // Drop duplicates, in case the collection is not a set
+        int unique = 1;
+        for (int i = 1; i < size; i++) {
+            if (order.compare(sorted[unique - 1], sorted[i]) != 0) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+
+        return new FaultSet(unique == size ? sorted : Arrays.copyOf(sorted, unique));
+    }
+
+    public static FaultSet of(Fault... faults) {
+        return of(Arrays.asList(faults));
+    }
+
+    private int indexOf(Fault fault) {
+        return Arrays.binarySearch(faults, canonical(fault), order);
+    }
+
+    public FaultSet plus(Fault fault) {
+        int index = indexOf(fault);
+
+        if (index >= 0) {
+            return this;
+        }
+
+        int insertion = -index - 1;
+        Fault[] copy = new Fault[faults.length + 1];
+        System.arraycopy(faults, 0, copy, 0, insertion);
+        copy[insertion] = canonical(fault);
+        System.arraycopy(faults, insertion, copy, insertion + 1, faults.length - insertion);
+        return new FaultSet(copy);
+    }
+
+    /** The faults in this set that are not in the other set */
+    public FaultSet minus(FaultSet other) {
+        Fault[] remaining = new Fault[faults.length];
+        int size = 0;
+        int j = 0;
+
+        for (Fault fault : faults) {
+            while (j < other.faults.length && order.compare(other.faults[j], fault) < 0) {
+                j++;
+            }
+
+            if (j >= other.faults.length || order.compare(other.faults[j], fault) != 0) {
+                remaining[size++] = fault;
+            }
+        }
+
+        if (size == faults.length) {
+            return this;
+        }
+
+        return size == 0 ? EMPTY : new FaultSet(Arrays.copyOf(remaining, size));
+    }
+
+    public boolean isSubsetOf(FaultSet other) {
+        if (faults.length > other.faults.length) {
+            return false;
+        }
+
+        int j = 0;
+        for (Fault fault : faults) {
+            while (j < other.faults.length && order.compare(other.faults[j], fault) < 0) {
+                j++;
+            }
+
+            if (j >= other.faults.length || order.compare(other.faults[j], fault) != 0) {
+                return false;
+            }
+
+            j++;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Fault fault && indexOf(fault) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (c instanceof FaultSet other) {
+            return other.isSubsetOf(this);
+        }
+
+        return super.containsAll(c);
+    }
+
+    @Override
+    public Iterator<Fault> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < faults.length;
+            }
+
+            @Override
+            public Fault next() {
+                if (next >= faults.length) {
+                    throw new NoSuchElementException();
+                }
+
+                return faults[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return faults.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return faults.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (o instanceof FaultSet other) {
+            if (hash != other.hash || faults.length != other.faults.length) {
+                return false;
+            }
+
+            for (int i = 0; i < faults.length; i++) {
+                if (order.compare(faults[i], other.faults[i]) != 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
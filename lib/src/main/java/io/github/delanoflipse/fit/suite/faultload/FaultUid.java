@@ -1,22 +1,119 @@
 package io.github.delanoflipse.fit.suite.faultload;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import io.github.delanoflipse.fit.suite.strategy.util.Lists;
 
+/**
+ * The identity of a fault injection point, including the stack of points
+ * that led to it.
+ *
+ * Uids are immutable values. Uids created through {@link #of}, including
+ * all uids derived from other uids and uids read from JSON, are interned:
+ * every distinct uid has one canonical instance, with a unique id and a
+ * precomputed hash.
+ */
 @JsonSerialize
 @JsonDeserialize
-public record FaultUid(List<FaultInjectionPoint> stack) {
-    public FaultUid {
+public final class FaultUid {
+    // Symbol table of canonical uids, dropped once unused
+    private static final WeakInterner<FaultUid> interned = new WeakInterner<>();
+
+    private final List<FaultInjectionPoint> stack;
+    private final int hash;
+    private volatile int id = -1;
+
+    // Derived uids, cached as they are requested often
+    private FaultUid parent = null;
+    private FaultUid anyCount = null;
+
+    public FaultUid(List<FaultInjectionPoint> stack) {
+        if (stack == null || stack.isEmpty()) {
+            throw new IllegalArgumentException("Stack must not be null and must have at least one element.");
+        }
+
+        this.stack = List.copyOf(stack);
+        // Same hash as the equivalent record, so iteration orders are stable
+        this.hash = this.stack.hashCode();
+    }
+
+    /** The canonical instance of the uid */
+    @JsonCreator
+    public static FaultUid of(@JsonProperty("stack") List<FaultInjectionPoint> stack) {
         if (stack == null || stack.isEmpty()) {
             throw new IllegalArgumentException("Stack must not be null and must have at least one element.");
         }
+
+        List<FaultInjectionPoint> canonicalStack = new ArrayList<>(stack.size());
+        for (FaultInjectionPoint point : stack) {
+            canonicalStack.add(point.intern());
+        }
+
+        return new FaultUid(List.copyOf(canonicalStack)).intern();
+    }
+
+    /** The canonical instance of this uid */
+    public FaultUid intern() {
+        if (id >= 0) {
+            return this;
+        }
+
+        // Make sure the canonical instance only refers to canonical points
+        boolean canonicalStack = stack.stream().allMatch(point -> point.getId() >= 0);
+        if (!canonicalStack) {
+            return of(stack);
+        }
+
+        return interned.intern(this, assigned -> id = assigned);
+    }
+
+    /** Unique id of the canonical instance, or -1 if not interned */
+    @JsonIgnore
+    public int getId() {
+        return id;
+    }
+
+    /** Number of distinct interned uids */
+    public static int internedCount() {
+        return interned.size();
+    }
+
+    @JsonProperty("stack")
+    public List<FaultInjectionPoint> stack() {
+        return stack;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof FaultUid other) || hash != other.hash) {
+            return false;
+        }
+
+        // Distinct canonical instances are distinct values
+        if (id >= 0 && other.id >= 0) {
+            return false;
+        }
+
+        return stack.equals(other.stack);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     @JsonIgnore
@@ -39,7 +136,7 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
         var head = getPoint();
         var tail = getTail();
 
-        return new FaultUid(Lists.plus(tail, head.asAnyPayload()));
+        return of(Lists.plus(tail, head.asAnyPayload()));
     }
 
     /** Whether all points are without query */
@@ -87,20 +184,27 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
             return null;
         }
 
-        return new FaultUid(getTail());
+        if (parent == null) {
+            parent = of(getTail());
+        }
+
+        return parent;
     }
 
     @JsonIgnore
     public FaultUid asChild(FaultInjectionPoint point) {
-        return new FaultUid(Lists.plus(stack, point));
+        return of(Lists.plus(stack, point));
     }
 
     @JsonIgnore
     public FaultUid asAnyCount() {
-        var head = getPoint();
-        var tail = getTail();
+        if (anyCount == null) {
+            var head = getPoint();
+            var tail = getTail();
+            anyCount = of(Lists.plus(tail, head.asAnyCount()));
+        }
 
-        return new FaultUid(Lists.plus(tail, head.asAnyCount()));
+        return anyCount;
     }
 
     @JsonIgnore
@@ -108,7 +212,7 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
         var head = getPoint();
         var tail = getTail();
 
-        return new FaultUid(Lists.plus(tail, head.withCount(count)));
+        return of(Lists.plus(tail, head.withCount(count)));
     }
 
     @JsonIgnore
@@ -117,7 +221,7 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
                 .map(x -> x.asAnyCallStack())
                 .toList();
 
-        return new FaultUid(without);
+        return of(without);
     }
 
     @JsonIgnore
@@ -129,7 +233,7 @@ public record FaultUid(List<FaultInjectionPoint> stack) {
         FaultInjectionPoint origin = getOrigin().asAnyCount().asAnyCallStack();
         FaultInjectionPoint destination = getPoint();
 
-        return new FaultUid(List.of(origin, destination));
+        return of(List.of(origin, destination));
     }
 
     @JsonIgnore
@@ -10,6 +10,10 @@ import java.util.stream.Collectors;
 
 public record Faultload(Set<Fault> faultSet) {
 
+    public Faultload {
+        faultSet = FaultSet.of(faultSet);
+    }
+
     public Set<FaultUid> getFaultUids() {
         return getFaultUids(faultSet);
     }
@@ -0,0 +1,41 @@
+package io.github.delanoflipse.fit.suite.faultload;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * A symbol table of canonical instances, that only holds on to them weakly.
+ * A canonical instance is dropped once nothing else refers to it, so values
+ * seen in earlier runs do not accumulate for the lifetime of the JVM.
+ *
+ * As a dropped instance can no longer be compared against, there is still at
+ * most one canonical instance per value among the reachable ones.
+ */
+final class WeakInterner<T> {
+    private final Map<T, WeakReference<T>> table = new WeakHashMap<>();
+    private int nextId = 0;
+
+    /**
+     * The canonical instance equal to the value. If there is none, the value
+     * becomes canonical, and is assigned a fresh id before it is published.
+     */
+    synchronized T intern(T value, IntConsumer assignId) {
+        WeakReference<T> reference = table.get(value);
+        T existing = reference == null ? null : reference.get();
+
+        if (existing != null) {
+            return existing;
+        }
+
+        assignId.accept(nextId++);
+        table.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /** Number of reachable canonical instances */
+    synchronized int size() {
+        return table.size();
+    }
+}
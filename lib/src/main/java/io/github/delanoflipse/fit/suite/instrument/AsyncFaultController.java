@@ -0,0 +1,31 @@
+package io.github.delanoflipse.fit.suite.instrument;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import io.github.delanoflipse.fit.suite.strategy.util.TraceAnalysis;
+
+/**
+ * Non-blocking variant of the FaultController.
+ * Futures complete exceptionally with an IOException if the call fails.
+ */
+public interface AsyncFaultController extends FaultController {
+    public CompletableFuture<TraceAnalysis> getTraceAsync(TrackedFaultload faultload);
+
+    public CompletableFuture<Void> registerFaultloadAsync(TrackedFaultload faultload);
+
+    public CompletableFuture<Void> unregisterFaultloadAsync(TrackedFaultload faultload);
+
+    public default CompletableFuture<Void> registerFaultloadsAsync(List<TrackedFaultload> faultloads) {
+        return CompletableFuture.allOf(faultloads.stream()
+                .map(this::registerFaultloadAsync)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    public default CompletableFuture<Void> unregisterFaultloadsAsync(List<TrackedFaultload> faultloads) {
+        return CompletableFuture.allOf(faultloads.stream()
+                .map(this::unregisterFaultloadAsync)
+                .toArray(CompletableFuture[]::new));
+    }
+}
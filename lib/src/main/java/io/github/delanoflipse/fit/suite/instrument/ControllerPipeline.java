@@ -0,0 +1,167 @@
+package io.github.delanoflipse.fit.suite.instrument;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+
+/**
+ * Moves the controller round trips that do not influence the analysis off the
+ * critical path. Faultloads are registered as soon as they are known, and
+ * unregistered in the background after their result is collected.
+ * Controllers that implement AsyncFaultController are called without blocking
+ * a thread per call.
+ */
+public class ControllerPipeline {
+    private final Logger logger = LoggerFactory.getLogger(ControllerPipeline.class);
+
+    private final FaultController controller;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fit-controller-pipeline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<TrackedFaultload, CompletableFuture<Void>> registrations = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<Void>> background = new LinkedHashSet<>();
+
+    @FunctionalInterface
+    private interface ControllerCall {
+        void call(TrackedFaultload faultload) throws IOException;
+    }
+
+    public ControllerPipeline(FaultController controller) {
+        this.controller = controller;
+    }
+
+    private CompletableFuture<Void> blocking(ControllerCall call, TrackedFaultload faultload) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                call.call(faultload);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private CompletableFuture<Void> registerCall(TrackedFaultload faultload) {
+        if (controller instanceof AsyncFaultController async) {
+            return async.registerFaultloadAsync(faultload);
+        }
+
+        return blocking(controller::registerFaultload, faultload);
+    }
+
+    private CompletableFuture<Void> unregisterCall(TrackedFaultload faultload) {
+        if (controller instanceof AsyncFaultController async) {
+            return async.unregisterFaultloadAsync(faultload);
+        }
+
+        return blocking(controller::unregisterFaultload, faultload);
+    }
+
+    /** Start registering the faultload at the controller */
+    public void register(TrackedFaultload faultload) {
+        faultload.timer.start("registerFaultload");
+        CompletableFuture<Void> registration = registerCall(faultload)
+                .whenComplete((ignored, error) -> faultload.timer.stop("registerFaultload"));
+
+        registrations.put(faultload, registration);
+    }
+
+    /** Wait until the faultload is registered, registering it if needed */
+    public void awaitRegistration(TrackedFaultload faultload) throws IOException {
+        if (!registrations.containsKey(faultload)) {
+            register(faultload);
+        }
+
+        CompletableFuture<Void> registration = registrations.remove(faultload);
+
+        try {
+            registration.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while registering faultload", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+
+            throw new IOException("Failed to register faultload", cause);
+        }
+    }
+
+    /** Unregister the faultload in the background, and run the callback after */
+    public void unregister(TrackedFaultload faultload, Runnable after) {
+        faultload.timer.start("unregisterFautload");
+        CompletableFuture<Void> unregistration = unregisterCall(faultload)
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        logger.warn("Failed to unregister faultload {}", faultload.getTraceId(), error);
+                    }
+
+                    faultload.timer.stop("unregisterFautload");
+                    after.run();
+                    return null;
+                });
+
+        synchronized (background) {
+            background.add(unregistration);
+        }
+
+        // Added first, so an already completed call is removed right away
+        unregistration.whenComplete((ignored, error) -> {
+            synchronized (background) {
+                background.remove(unregistration);
+            }
+        });
+    }
+
+    /** The number of background calls that are still in flight */
+    public int getPendingCount() {
+        synchronized (background) {
+            return background.size();
+        }
+    }
+
+    /** Wait for all background work to finish */
+    public void close() {
+        List<CompletableFuture<Void>> pending;
+        synchronized (background) {
+            pending = new ArrayList<>(background);
+            background.clear();
+        }
+
+        for (CompletableFuture<Void> future : pending) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                logger.warn("Background controller call failed", e.getCause());
+            }
+        }
+
+        executor.shutdown();
+    }
+}
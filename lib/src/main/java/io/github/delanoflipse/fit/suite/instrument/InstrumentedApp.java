@@ -1,7 +1,9 @@
 package io.github.delanoflipse.fit.suite.instrument;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import org.testcontainers.containers.GenericContainer;
@@ -16,6 +18,8 @@ public class InstrumentedApp extends RemoteController {
     public Network network;
     private final List<InstrumentedService> proxies = new ArrayList<>();
     private final List<GenericContainer<?>> services = new ArrayList<>();
+    private final Map<String, GenericContainer<?>> namedServices = new LinkedHashMap<>();
+    private final Map<String, String> imageDigests = new LinkedHashMap<>();
 
     public String controllerHost = "fit-controller";
     public int controllerPort = 5000;
@@ -61,6 +65,7 @@ public class InstrumentedApp extends RemoteController {
         service.withNetwork(network)
                 .withNetworkAliases(serviceName);
         this.services.add(service);
+        this.namedServices.put(serviceName, service);
     }
 
     public InstrumentedService instrument(String hostname, int port, GenericContainer<?> service) {
@@ -98,6 +103,27 @@ public class InstrumentedApp extends RemoteController {
         int localControllerPort = controller.getMappedPort(5000);
         controllerInspectUrl = "http://localhost:" + localControllerPort;
         this.apiHost = controllerInspectUrl;
+
+        recordImageDigests();
+    }
+
+    private void recordImageDigests() {
+        imageDigests.clear();
+
+        for (var entry : namedServices.entrySet()) {
+            imageDigests.put(entry.getKey(), entry.getValue().getContainerInfo().getImageId());
+        }
+
+        // Points are identified by the hostname of the proxy, so use the image of
+        // the service behind it
+        for (var proxy : proxies) {
+            imageDigests.put(proxy.getHostname(), proxy.getService().getContainerInfo().getImageId());
+        }
+    }
+
+    /** The image id of each service by hostname, known once the app is started */
+    public Map<String, String> getImageDigests() {
+        return imageDigests;
     }
 
     public void stop() {
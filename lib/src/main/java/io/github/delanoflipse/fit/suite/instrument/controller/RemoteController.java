@@ -1,6 +1,9 @@
 package io.github.delanoflipse.fit.suite.instrument.controller;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -9,67 +12,250 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.github.delanoflipse.fit.suite.instrument.FaultController;
+import io.github.delanoflipse.fit.suite.instrument.AsyncFaultController;
 import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
 import io.github.delanoflipse.fit.suite.strategy.util.TraceAnalysis;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 
-public class RemoteController implements FaultController {
+public class RemoteController implements AsyncFaultController {
     private final Logger logger = LoggerFactory.getLogger(RemoteController.class);
 
     public String apiHost;
     private final LRUCache<String, TraceAnalysis> traceCache = new LRUCache<>(3);
 
-    private OkHttpClient client = new OkHttpClient.Builder()
-            .connectTimeout(5, TimeUnit.SECONDS)
-            .readTimeout(10, TimeUnit.SECONDS)
-            .build();
+    private static final int MAX_RETRIES = 8;
+
+    private final Call.Factory client;
     public static final MediaType JSON = MediaType.get("application/json");
 
-    public RemoteController(String apiHost) {
+    public RemoteController(String apiHost, Call.Factory client) {
         this.apiHost = apiHost;
+        this.client = client;
+    }
+
+    public RemoteController(String apiHost) {
+        this(apiHost, createClient());
     }
 
     public RemoteController() {
-        this.apiHost = null;
+        this(null);
     }
 
-    private TraceAnalysis attemptToGetTrace(TrackedFaultload faultload) throws IOException {
+    private static OkHttpClient createClient() {
+        return new OkHttpClient.Builder()
+                .dispatcher(createDispatcher())
+                .connectTimeout(5, TimeUnit.SECONDS)
+                .readTimeout(10, TimeUnit.SECONDS)
+                .build();
+    }
+
+    private static Dispatcher createDispatcher() {
+        // All calls go to the same host, so allow as many concurrent calls to it
+        // as in total
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(dispatcher.getMaxRequests());
+        return dispatcher;
+    }
+
+    private Request traceRequest(TrackedFaultload faultload) {
         String queryUrl = apiHost + "/v1/trace/" + faultload.getTraceId();
-        Request request = new Request.Builder()
+        return new Request.Builder()
                 // .addHeader("Content-Type", "application/json")
                 .url(queryUrl)
                 .build();
+    }
 
-        try (Response httpRes = client.newCall(request).execute()) {
-            String body = httpRes.body().string();
-            ControllerResponse response = new ObjectMapper().readValue(body,
-                    new TypeReference<ControllerResponse>() {
-                    });
+    private Request registerRequest(TrackedFaultload faultload) {
+        String queryUrl = apiHost + "/v1/faultload/register";
+        String jsonBody = faultload.serializeJson();
+        RequestBody body = RequestBody.create(jsonBody, JSON);
+        return new Request.Builder()
+                // .addHeader("Content-Type", "application/json")
+                .url(queryUrl)
+                .post(body)
+                .build();
+    }
 
-            var traceReports = response.reports;
-            TraceAnalysis trace = new TraceAnalysis(traceReports);
+    private Request unregisterRequest(TrackedFaultload faultload) {
+        String queryUrl = apiHost + "/v1/faultload/unregister";
+        ObjectMapper mapper = new ObjectMapper();
+        var node = mapper.createObjectNode();
+        node.put("trace_id", faultload.getTraceId());
 
-            if (trace.isInvalid()) {
-                throw new IOException("Trace is invalid!");
-            }
+        String jsonBody = node.toString();
+        RequestBody body = RequestBody.create(jsonBody, JSON);
+        return new Request.Builder()
+                // .addHeader("Content-Type", "application/json")
+                .url(queryUrl)
+                .post(body)
+                .build();
+    }
+
+    private TraceAnalysis parseTrace(String body) throws IOException {
+        ControllerResponse response = new ObjectMapper().readValue(body,
+                new TypeReference<ControllerResponse>() {
+                });
+
+        var traceReports = response.reports;
+        TraceAnalysis trace = new TraceAnalysis(traceReports);
 
-            return trace;
+        if (trace.isInvalid()) {
+            throw new IOException("Trace is invalid!");
         }
+
+        return trace;
     }
 
-    @Override
-    public TraceAnalysis getTrace(TrackedFaultload faultload) throws IOException {
+    private void checkOk(Response httpRes, String action) throws IOException {
+        if (!httpRes.isSuccessful()) {
+            throw new IOException("Failed to " + action + ": " + httpRes.body().string());
+        }
+
+        String resBody = httpRes.body().string(); // Ensure the request is executed
+
+        if (!resBody.equals("OK")) {
+            throw new IOException("Failed to " + action + ": " + resBody);
+        }
+    }
+
+    private TraceAnalysis attemptToGetTrace(TrackedFaultload faultload) throws IOException {
+        try (Response httpRes = client.newCall(traceRequest(faultload)).execute()) {
+            return parseTrace(httpRes.body().string());
+        }
+    }
+
+    private void checkApiHost() {
         if (apiHost == null) {
             throw new IllegalStateException("Collector URL not set");
         }
+    }
+
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(Response response) throws IOException;
+    }
+
+    /** Perform the request on OkHttp's dispatcher, without blocking the caller */
+    private <T> CompletableFuture<T> enqueue(Request request, ResponseHandler<T> handler) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Call call = client.newCall(request);
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    future.complete(handler.handle(response));
+                } catch (Exception e) {
+                    // Also fail on unexpected errors, or the future never completes
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+
+        // Allow callers to abort the call
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        return future;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+
+        return error;
+    }
+
+    private CompletableFuture<TraceAnalysis> getTraceAttempt(TrackedFaultload faultload, int attempt) {
+        return enqueue(traceRequest(faultload), response -> parseTrace(response.body().string()))
+                .exceptionallyCompose(error -> {
+                    logger.debug("Retrying getting trace due to: {}", unwrap(error).getMessage());
+
+                    if (attempt + 1 >= MAX_RETRIES) {
+                        return CompletableFuture.failedFuture(
+                                new IOException("Failed to get trace after " + MAX_RETRIES + " attempts"));
+                    }
+
+                    int backoff = 100 * (int) Math.pow(2, attempt);
+                    Executor delayed = CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS);
+                    return CompletableFuture.supplyAsync(() -> attempt + 1, delayed)
+                            .thenCompose(next -> getTraceAttempt(faultload, next));
+                });
+    }
+
+    @Override
+    public CompletableFuture<TraceAnalysis> getTraceAsync(TrackedFaultload faultload) {
+        checkApiHost();
+
+        synchronized (traceCache) {
+            if (traceCache.containsKey(faultload.getTraceId())) {
+                return CompletableFuture.completedFuture(traceCache.get(faultload.getTraceId()));
+            }
+        }
+
+        faultload.timer.start("getTraceWithDelay");
+        Executor delayed = CompletableFuture.delayedExecutor(Math.max(0, faultload.getDelayMs),
+                TimeUnit.MILLISECONDS);
+
+        return CompletableFuture.runAsync(() -> faultload.timer.start("getTrace"), delayed)
+                .thenCompose(ignored -> getTraceAttempt(faultload, 0))
+                .whenComplete((traceData, error) -> {
+                    faultload.timer.stop("getTrace");
+
+                    if (error == null) {
+                        synchronized (traceCache) {
+                            traceCache.put(faultload.getTraceId(), traceData);
+                        }
+                    } else {
+                        faultload.timer.stop("getTraceWithDelay");
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> registerFaultloadAsync(TrackedFaultload faultload) {
+        checkApiHost();
 
-        if (traceCache.containsKey(faultload.getTraceId())) {
-            return traceCache.get(faultload.getTraceId());
+        return enqueue(registerRequest(faultload), response -> {
+            checkOk(response, "register faultload");
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> unregisterFaultloadAsync(TrackedFaultload faultload) {
+        checkApiHost();
+
+        return enqueue(unregisterRequest(faultload), response -> {
+            checkOk(response, "unregister faultload");
+            return null;
+        });
+    }
+
+    @Override
+    public TraceAnalysis getTrace(TrackedFaultload faultload) throws IOException {
+        checkApiHost();
+
+        synchronized (traceCache) {
+            if (traceCache.containsKey(faultload.getTraceId())) {
+                return traceCache.get(faultload.getTraceId());
+            }
         }
 
         faultload.timer.start("getTraceWithDelay");
@@ -82,12 +268,12 @@ public class RemoteController implements FaultController {
         }
 
         faultload.timer.start("getTrace");
-        int maxRetries = 8;
-
-        for (int attempt = 0; attempt < maxRetries; attempt++) {
+        for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
             try {
                 var traceData = attemptToGetTrace(faultload);
-                traceCache.put(faultload.getTraceId(), traceData);
+                synchronized (traceCache) {
+                    traceCache.put(faultload.getTraceId(), traceData);
+                }
                 faultload.timer.stop("getTrace");
                 return traceData;
             } catch (IOException e) {
@@ -104,67 +290,24 @@ public class RemoteController implements FaultController {
 
         faultload.timer.stop("getTrace");
         faultload.timer.stop("getTraceWithDelay");
-        throw new IOException("Failed to get trace after " + maxRetries + " attempts");
+        throw new IOException("Failed to get trace after " + MAX_RETRIES + " attempts");
     }
 
     @Override
     public void registerFaultload(TrackedFaultload faultload) throws IOException {
-        if (apiHost == null) {
-            throw new IllegalStateException("Collector URL not set");
-        }
-
-        String queryUrl = apiHost + "/v1/faultload/register";
-        String jsonBody = faultload.serializeJson();
-        RequestBody body = RequestBody.create(jsonBody, JSON);
-        Request request = new Request.Builder()
-                // .addHeader("Content-Type", "application/json")
-                .url(queryUrl)
-                .post(body)
-                .build();
+        checkApiHost();
 
-        try (Response httpRes = client.newCall(request).execute()) {
-            if (!httpRes.isSuccessful()) {
-                throw new IOException("Failed to register faultload: " + httpRes.body().string());
-            }
-
-            String resBody = httpRes.body().string(); // Ensure the request is executed
-
-            if (!resBody.equals("OK")) {
-                throw new IOException("Failed to register faultload: " + resBody);
-            }
+        try (Response httpRes = client.newCall(registerRequest(faultload)).execute()) {
+            checkOk(httpRes, "register faultload");
         }
     }
 
     @Override
     public void unregisterFaultload(TrackedFaultload faultload) throws IOException {
-        if (apiHost == null) {
-            throw new IllegalStateException("Collector URL not set");
-        }
-
-        String queryUrl = apiHost + "/v1/faultload/unregister";
-        ObjectMapper mapper = new ObjectMapper();
-        var node = mapper.createObjectNode();
-        node.put("trace_id", faultload.getTraceId());
+        checkApiHost();
 
-        String jsonBody = node.toString();
-        ;
-        RequestBody body = RequestBody.create(jsonBody, JSON);
-        Request request = new Request.Builder()
-                // .addHeader("Content-Type", "application/json")
-                .url(queryUrl)
-                .post(body)
-                .build();
-
-        try (Response httpRes = client.newCall(request).execute()) {
-            if (!httpRes.isSuccessful()) {
-                throw new IOException("Failed to register faultload: " + httpRes.body().string());
-            }
-
-            String resBody = httpRes.body().string(); // Ensure the request is executed
-
-            if (!resBody.equals("OK")) {
-                throw new IOException("Failed to unregister faultload: " + resBody);
-            }
+        try (Response httpRes = client.newCall(unregisterRequest(faultload)).execute()) {
+            checkOk(httpRes, "unregister faultload");
         }
     }
 }
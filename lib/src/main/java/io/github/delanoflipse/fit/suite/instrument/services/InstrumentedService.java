@@ -55,11 +55,11 @@ public class InstrumentedService extends GenericContainer<InstrumentedService> {
     }
 
     public FaultInjectionPoint getPoint(String signature, String payload, Map<String, Integer> callStack, int count) {
-        return new FaultInjectionPoint(hostname, signature, payload, callStack, count);
+        return FaultInjectionPoint.of(hostname, signature, payload, callStack, count);
     }
 
     public FaultInjectionPoint getPoint() {
-        return new FaultInjectionPoint(hostname, "*", "*", Map.of(), 0);
+        return FaultInjectionPoint.of(hostname, "*", "*", Map.of(), 0);
     }
 
     public InstrumentedService withHttp2() {
@@ -0,0 +1,125 @@
+package io.github.delanoflipse.fit.suite.strategy;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
+import io.github.delanoflipse.fit.suite.strategy.components.FeedbackContext;
+import io.github.delanoflipse.fit.suite.strategy.components.FeedbackHandler;
+import io.github.delanoflipse.fit.suite.strategy.components.PruneContext;
+import io.github.delanoflipse.fit.suite.strategy.components.Reporter;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.TimingAnalyzer;
+import io.github.delanoflipse.fit.suite.util.TaggedTimer;
+
+/**
+ * Scores candidate faultloads by their expected information per second,
+ * given a fixed time budget.
+ *
+ * The cost of a faultload is predicted from the average duration of a test,
+ * minus the time of the calls that are cut short by the injected faults. The
+ * information is higher for small faultloads, and for faultloads that inject
+ * faults in points that have not been injected before.
+ */
+public class BudgetPlanner implements FeedbackHandler, Reporter {
+    public static final int LOOKAHEAD = 32;
+    private static final String TEST_TAG = "Per test";
+    // Injected faults never make a test cheaper than this fraction
+    private static final double MIN_COST_FRACTION = 0.1;
+
+    private final long budgetMs;
+    private final long startTime;
+    private final TimingAnalyzer timingAnalyzer;
+    private final Set<FaultUid> injectedPoints = new HashSet<>();
+
+    private double totalTestMs = 0;
+    private long tests = 0;
+    private long overBudget = 0;
+
+    public BudgetPlanner(long budgetMs, long startTime, TimingAnalyzer timingAnalyzer) {
+        this.budgetMs = budgetMs;
+        this.startTime = startTime;
+        this.timingAnalyzer = timingAnalyzer;
+    }
+
+    public synchronized void recordTest(TaggedTimer timer) {
+        for (var entry : timer.getTimingsNs()) {
+            if (entry.first().equals(TEST_TAG)) {
+                totalTestMs += entry.second() / 1_000_000.0;
+                tests++;
+            }
+        }
+    }
+
+    public synchronized double getAverageTestMs() {
+        return tests == 0 ? 0 : totalTestMs / tests;
+    }
+
+    public long getRemainingMs() {
+        return budgetMs - (System.currentTimeMillis() - startTime);
+    }
+
+    public synchronized double predictCostMs(Set<Fault> faultload) {
+        double average = getAverageTestMs();
+
+        if (average <= 0) {
+            return 0;
+        }
+
+        double cost = average;
+
+        if (timingAnalyzer != null) {
+            for (Fault fault : faultload) {
+                double saved = timingAnalyzer.getAverageResponseMs(fault.uid());
+
+                if (saved > 0) {
+                    cost -= saved;
+                }
+            }
+        }
+
+        return Math.max(cost, average * MIN_COST_FRACTION);
+    }
+
+    public synchronized double expectedInformation(Set<Fault> faultload) {
+        long unexplored = faultload.stream()
+                .map(Fault::uid)
+                .filter(uid -> !injectedPoints.contains(uid))
+                .distinct()
+                .count();
+
+        return (1.0 + unexplored) / Math.max(1, faultload.size());
+    }
+
+    /** Information per second, or -1 if it does not fit in the budget */
+    public synchronized double score(Set<Fault> faultload) {
+        double cost = predictCostMs(faultload);
+
+        if (cost > getRemainingMs()) {
+            overBudget++;
+            return -1;
+        }
+
+        return expectedInformation(faultload) / Math.max(1.0, cost) * 1000.0;
+    }
+
+    @Override
+    public synchronized void handleFeedback(FaultloadResult result, FeedbackContext context) {
+        for (Fault fault : result.trace.getInjectedFaults()) {
+            injectedPoints.add(fault.uid());
+        }
+    }
+
+    @Override
+    public synchronized Object report(PruneContext context) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("budget_ms", budgetMs);
+        report.put("remaining_ms", Math.max(0, getRemainingMs()));
+        report.put("average_test_ms", getAverageTestMs());
+        report.put("injected_points", injectedPoints.size());
+        report.put("over_budget_candidates", overBudget);
+        return report;
+    }
+}
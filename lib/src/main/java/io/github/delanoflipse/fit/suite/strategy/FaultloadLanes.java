@@ -0,0 +1,104 @@
+package io.github.delanoflipse.fit.suite.strategy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bookkeeping for faultloads that are executed concurrently.
+ * Faultloads can complete in any order, but their results are released in the
+ * order in which the faultloads were handed out, so the analysis is
+ * deterministic regardless of the timing of the individual tests.
+ */
+public class FaultloadLanes {
+    private final int lanes;
+    // In order of issue
+    private final Map<TrackedFaultload, Lane> lanesInUse = new LinkedHashMap<>();
+    private int running = 0;
+
+    private static class Lane {
+        private boolean completed = false;
+        private FaultloadResult result = null;
+    }
+
+    public FaultloadLanes(int lanes) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Must have at least one lane!");
+        }
+
+        this.lanes = lanes;
+    }
+
+    public int getLanes() {
+        return lanes;
+    }
+
+    /** Whether all lanes are occupied by running faultloads */
+    public boolean isFull() {
+        return running >= lanes;
+    }
+
+    /** Whether there are no faultloads running or waiting to be released */
+    public boolean isIdle() {
+        return lanesInUse.isEmpty();
+    }
+
+    public int getRunning() {
+        return running;
+    }
+
+    /** Faultloads that are handed out, but whose results are not yet released */
+    public List<TrackedFaultload> getPending() {
+        return List.copyOf(lanesInUse.keySet());
+    }
+
+    public void issue(TrackedFaultload faultload) {
+        if (lanesInUse.containsKey(faultload)) {
+            throw new IllegalArgumentException("Faultload " + faultload.getTraceId() + " is already in flight!");
+        }
+
+        lanesInUse.put(faultload, new Lane());
+        running++;
+    }
+
+    /**
+     * Mark the faultload as completed.
+     * A null result indicates that the faultload did not produce a usable
+     * result, it will be skipped when releasing results.
+     */
+    public void complete(TrackedFaultload faultload, FaultloadResult result) {
+        Lane lane = lanesInUse.get(faultload);
+
+        if (lane == null || lane.completed) {
+            throw new IllegalArgumentException("Faultload " + faultload.getTraceId() + " is not in flight!");
+        }
+
+        lane.completed = true;
+        lane.result = result;
+        running--;
+    }
+
+    /** Release all completed results that are not waiting on an earlier faultload */
+    public List<FaultloadResult> release() {
+        List<FaultloadResult> released = new ArrayList<>();
+        Iterator<Lane> iterator = lanesInUse.values().iterator();
+
+        while (iterator.hasNext()) {
+            Lane lane = iterator.next();
+
+            if (!lane.completed) {
+                break;
+            }
+
+            if (lane.result != null) {
+                released.add(lane.result);
+            }
+
+            iterator.remove();
+        }
+
+        return released;
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.delanoflipse.fit.suite.strategy;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.github.delanoflipse.fit.suite.faultload.Behaviour;
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.Faultload;
+import io.github.delanoflipse.fit.suite.faultload.modes.ErrorFault;
+import io.github.delanoflipse.fit.suite.strategy.util.TraceAnalysis;
+import io.github.delanoflipse.fit.suite.trace.tree.TraceReport;
+import io.github.delanoflipse.fit.suite.trace.tree.TraceResponse;
+
+/**
+ * A deterministic partition of the fault space over a number of jobs, based
+ * on the canonical hash of a faultload. The happy path is part of every shard.
+ */
+public class FaultloadShard {
+    private static final String HASH_SEED = "shard";
+
+    private final int index;
+    private final int count;
+
+    public FaultloadShard(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + "/" + count);
+        }
+
+        this.index = index;
+        this.count = count;
+    }
+
+    /** Parse a shard of the form i/n, where 0 <= i < n */
+    public static FaultloadShard parse(String shard) {
+        String[] parts = shard.trim().split("/");
+
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Shard must be of the form i/n: " + shard);
+        }
+
+        return new FaultloadShard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean contains(Faultload faultload) {
+        if (faultload.faultSet().isEmpty()) {
+            return true;
+        }
+
+        long hash = ByteBuffer.wrap(OutcomeCache.key(faultload, HASH_SEED)).getLong();
+        return Math.floorMod(hash, count) == index;
+    }
+
+    /**
+     * A trace of the expected behaviour of a faultload, to explore past
+     * faultloads of other shards without running them.
+     */
+    public static TraceAnalysis predictTrace(Faultload faultload, Collection<Behaviour> expected) {
+        List<TraceReport> reports = new ArrayList<>();
+
+        for (Behaviour behaviour : expected) {
+            TraceReport report = new TraceReport();
+            report.injectionPoint = behaviour.uid();
+            report.isInitial = behaviour.uid().isInitial();
+            report.concurrentTo = List.of();
+            report.injectedFault = faultload.faultSet().stream()
+                    .filter(fault -> fault.uid().matches(behaviour.uid()))
+                    .findFirst()
+                    .orElse(null);
+
+            TraceResponse response = new TraceResponse();
+            response.status = statusOf(behaviour);
+            response.body = "";
+            report.response = response;
+            reports.add(report);
+        }
+
+        return new TraceAnalysis(reports);
+    }
+
+    private static int statusOf(Behaviour behaviour) {
+        if (behaviour.isHappyPath()) {
+            return 200;
+        }
+
+        Fault fault = behaviour.getFault();
+        if (fault.mode().type().equals(ErrorFault.FAULT_TYPE) && !fault.mode().args().isEmpty()) {
+            try {
+                return Integer.parseInt(fault.mode().args().get(0));
+            } catch (NumberFormatException e) {
+                // Fall through to a generic error
+            }
+        }
+
+        return 500;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
@@ -0,0 +1,294 @@
+package io.github.delanoflipse.fit.suite.strategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.Faultload;
+
+/**
+ * Local, append-only cache of faultload outcomes, keyed by a hash of the
+ * faultload and a fingerprint of the application under test.
+ *
+ * Each record is the 32 byte key, a 4 byte length, and the JSON encoded
+ * result. Lookups are served from memory mapped windows of the file.
+ *
+ * The file can be shared by multiple processes. Appends and truncation
+ * happen under an exclusive file lock, and records appended by others are
+ * picked up on a lookup miss.
+ */
+public class OutcomeCache implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(OutcomeCache.class);
+
+    private static final int KEY_SIZE = 32;
+    private static final int HEADER_SIZE = KEY_SIZE + Integer.BYTES;
+    private static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+    // File locks are held per process, so caches within this process also
+    // have to exclude each other
+    private static final Map<Path, Object> localLocks = new ConcurrentHashMap<>();
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private record Location(long offset, int length) {
+    }
+
+    private final FileChannel channel;
+    private final Object localLock;
+    private final Map<String, Location> index = new HashMap<>();
+    private final int windowSize;
+    private final List<MappedByteBuffer> windows = new ArrayList<>();
+    private long mappedSize = 0;
+    private long size = 0;
+
+    public OutcomeCache(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    /** Map the file in windows of the given size */
+    public OutcomeCache(Path file, int windowSize) throws IOException {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.windowSize = windowSize;
+        localLock = localLocks.computeIfAbsent(file.toAbsolutePath().normalize(), k -> new Object());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        withLock(false, () -> {
+            refresh();
+
+            // Writers hold the lock, so a partial record is left by an interrupted run
+            if (size < channel.size()) {
+                logger.warn("Truncating incomplete outcome cache record at {}", size);
+                channel.truncate(size);
+                remap();
+            }
+        });
+
+        logger.info("Opened outcome cache {} with {} entries", file, index.size());
+    }
+
+    @FunctionalInterface
+    private interface LockedAction {
+        void run() throws IOException;
+    }
+
+    private void withLock(boolean shared, LockedAction action) throws IOException {
+        synchronized (localLock) {
+            FileLock lock = channel.lock(0, Long.MAX_VALUE, shared);
+
+            try {
+                action.run();
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    private void remap() throws IOException {
+        long fileSize = channel.size();
+
+        // Drop the windows past the end, and the last one if it was partial
+        while (!windows.isEmpty()) {
+            int last = windows.size() - 1;
+            long end = (long) last * windowSize + windows.get(last).capacity();
+
+            if (end <= fileSize && windows.get(last).capacity() == windowSize) {
+                break;
+            }
+
+            windows.remove(last);
+        }
+
+        long offset = (long) windows.size() * windowSize;
+        while (offset < fileSize) {
+            long length = Math.min(windowSize, fileSize - offset);
+            windows.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+            offset += length;
+        }
+
+        mappedSize = fileSize;
+    }
+
+    private void read(long offset, byte[] destination) {
+        int copied = 0;
+
+        while (copied < destination.length) {
+            long position = offset + copied;
+            MappedByteBuffer window = windows.get((int) (position / windowSize));
+            int start = (int) (position % windowSize);
+            int length = Math.min(destination.length - copied, window.capacity() - start);
+            window.get(start, destination, copied, length);
+            copied += length;
+        }
+    }
+
+    private int readInt(long offset) {
+        byte[] data = new byte[Integer.BYTES];
+        read(offset, data);
+        return ByteBuffer.wrap(data).getInt();
+    }
+
+    /** Index the complete records appended since the last scan */
+    private void refresh() throws IOException {
+        if (channel.size() != mappedSize) {
+            remap();
+        }
+
+        long offset = size;
+        byte[] key = new byte[KEY_SIZE];
+
+        while (offset + HEADER_SIZE <= mappedSize) {
+            read(offset, key);
+            int length = readInt(offset + KEY_SIZE);
+
+            if (length < 0 || offset + HEADER_SIZE + length > mappedSize) {
+                break;
+            }
+
+            index.put(HexFormat.of().formatHex(key), new Location(offset + HEADER_SIZE, length));
+            offset += HEADER_SIZE + length;
+        }
+
+        size = offset;
+    }
+
+    /** Canonical, order independent, representation of the faultload */
+    private static String canonical(Faultload faultload) throws JsonProcessingException {
+        List<String> faults = new ArrayList<>();
+
+        for (Fault fault : faultload.faultSet()) {
+            faults.add(mapper.writeValueAsString(fault));
+        }
+
+        faults.sort(String::compareTo);
+        return String.join("\n", faults);
+    }
+
+    public static byte[] key(Faultload faultload, String fingerprint) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(canonical(faultload).getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Failed to compute outcome cache key", e);
+        }
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized RunHistory.Entry get(Faultload faultload, String fingerprint) {
+        String hexKey = HexFormat.of().formatHex(key(faultload, fingerprint));
+
+        try {
+            Location location = index.get(hexKey);
+
+            // It might have been added by another process since
+            if (location == null && channel.size() > size) {
+                withLock(true, this::refresh);
+
+                location = index.get(hexKey);
+            }
+
+            if (location == null) {
+                return null;
+            }
+
+            if (location.offset() + location.length() > mappedSize) {
+                remap();
+            }
+
+            byte[] data = new byte[location.length()];
+            read(location.offset(), data);
+            RunHistory.Entry entry = mapper.readValue(data, RunHistory.Entry.class);
+
+            // Guard against hash collisions
+            if (!entry.faultload().equals(faultload.faultSet())) {
+                return null;
+            }
+
+            return entry;
+        } catch (IOException e) {
+            logger.warn("Failed to read outcome cache entry", e);
+            return null;
+        }
+    }
+
+    public synchronized void put(Faultload faultload, String fingerprint, RunHistory.Entry entry)
+            throws IOException {
+        byte[] key = key(faultload, fingerprint);
+        String hexKey = HexFormat.of().formatHex(key);
+
+        if (index.containsKey(hexKey)) {
+            return;
+        }
+
+        byte[] data = mapper.writeValueAsBytes(entry);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + data.length);
+        record.put(key);
+        record.putInt(data.length);
+        record.put(data);
+        record.flip();
+
+        withLock(false, () -> {
+            // Append after the records of other processes
+            refresh();
+
+            if (index.containsKey(hexKey)) {
+                return;
+            }
+
+            if (size < channel.size()) {
+                logger.warn("Truncating incomplete outcome cache record at {}", size);
+                channel.truncate(size);
+                remap();
+            }
+
+            long offset = size;
+            while (record.hasRemaining()) {
+                channel.write(record, offset + record.position());
+            }
+
+            index.put(hexKey, new Location(offset + HEADER_SIZE, data.length));
+            size = offset + HEADER_SIZE + data.length;
+        });
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        windows.clear();
+        channel.close();
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.delanoflipse.fit.suite.strategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.delanoflipse.fit.suite.strategy.components.Pruner;
+
+/**
+ * Orders pruners by how often they prune per nanosecond spent, so that a
+ * decisive verdict is reached as cheaply as possible.
+ *
+ * For the first warm-up evaluations all pruners are called in registration
+ * order to gather statistics. After that, pruners are ordered by their
+ * (smoothed) hit rate divided by their average cost, and the remaining
+ * pruners can be skipped once one of them prunes.
+ */
+public class PrunerScheduler {
+    public static final int DEFAULT_WARMUP = 32;
+    private static final int REORDER_INTERVAL = 64;
+
+    private static class Stats {
+        long calls = 0;
+        long hits = 0;
+        long totalNs = 0;
+        long memoHits = 0;
+
+        double averageNs() {
+            return calls == 0 ? 0 : (double) totalNs / calls;
+        }
+
+        double score() {
+            // Laplace smoothing, so unseen pruners are not ruled out
+            double hitRate = (hits + 1.0) / (calls + 2.0);
+            return hitRate / Math.max(1.0, averageNs());
+        }
+    }
+
+    private final int warmup;
+    private final Map<Pruner, Stats> stats = new LinkedHashMap<>();
+    private List<Pruner> order = new ArrayList<>();
+    private long evaluations = 0;
+    private long skipped = 0;
+    private double savedNs = 0;
+
+    public PrunerScheduler() {
+        this(DEFAULT_WARMUP);
+    }
+
+    public PrunerScheduler(int warmup) {
+        this.warmup = warmup;
+    }
+
+    public synchronized void register(Pruner pruner) {
+        stats.put(pruner, new Stats());
+        order.add(pruner);
+    }
+
+    /** The order in which to call the pruners for the next faultload */
+    public synchronized List<Pruner> getOrder() {
+        evaluations++;
+
+        if (evaluations > warmup && evaluations % REORDER_INTERVAL == 0) {
+            reorder();
+        } else if (evaluations == warmup + 1) {
+            reorder();
+        }
+
+        return List.copyOf(order);
+    }
+
+    private void reorder() {
+        List<Pruner> newOrder = new ArrayList<>(order);
+        newOrder.sort(Comparator.comparingDouble((Pruner p) -> stats.get(p).score()).reversed());
+        order = newOrder;
+    }
+
+    /** Whether the remaining pruners can be skipped after a decisive verdict */
+    public synchronized boolean canShortCircuit() {
+        return evaluations > warmup;
+    }
+
+    public synchronized void record(Pruner pruner, long ns, boolean pruned) {
+        Stats stat = stats.get(pruner);
+
+        if (stat == null) {
+            return;
+        }
+
+        stat.calls++;
+        stat.totalNs += ns;
+
+        if (pruned) {
+            stat.hits++;
+        }
+    }
+
+    /**
+     * Register a decision that was answered from the memo. The pruner was not
+     * called, so this does not count towards its cost or hit rate.
+     */
+    public synchronized void recordMemoHit(Pruner pruner) {
+        Stats stat = stats.get(pruner);
+
+        if (stat == null) {
+            return;
+        }
+
+        stat.memoHits++;
+    }
+
+    /** Register pruners that were not called due to a short-circuit */
+    public synchronized void skip(List<Pruner> remaining) {
+        for (Pruner pruner : remaining) {
+            Stats stat = stats.get(pruner);
+
+            if (stat == null) {
+                continue;
+            }
+
+            skipped++;
+            savedNs += stat.averageNs();
+        }
+    }
+
+    public synchronized long getSkipped() {
+        return skipped;
+    }
+
+    /** Estimated time saved by skipping pruners, based on their average cost */
+    public synchronized double getEstimatedSavedNs() {
+        return savedNs;
+    }
+
+    public synchronized Map<String, Object> getReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>();
+
+        for (Pruner pruner : order) {
+            names.add(pruner.getClass().getSimpleName());
+        }
+
+        Map<String, Object> perPruner = new LinkedHashMap<>();
+        for (var entry : stats.entrySet()) {
+            Stats stat = entry.getValue();
+            Map<String, Object> prunerReport = new LinkedHashMap<>();
+            prunerReport.put("calls", stat.calls);
+            prunerReport.put("hits", stat.hits);
+            prunerReport.put("average_ns", stat.averageNs());
+            prunerReport.put("memo_hits", stat.memoHits);
+            perPruner.put(entry.getKey().getClass().getSimpleName(), prunerReport);
+        }
+
+        report.put("order", names);
+        report.put("evaluations", evaluations);
+        report.put("skipped_calls", skipped);
+        report.put("pruners", perPruner);
+        return report;
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.delanoflipse.fit.suite.strategy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.trace.tree.TraceReport;
+
+/**
+ * The results of a previous run, together with the image digests of the
+ * services it ran against. Used to carry over results of faultloads that
+ * cannot be affected by the services that changed since.
+ *
+ * Stored as a directory with a digests.json file, and a results.jsonl file
+ * with one result per line.
+ */
+public class RunHistory {
+    private static final String DIGESTS_FILE = "digests.json";
+    private static final String RESULTS_FILE = "results.jsonl";
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public record Entry(Set<Fault> faultload, List<TraceReport> reports, boolean passed) {
+    }
+
+    private final Map<String, String> digests;
+    private final Map<Set<Fault>, Entry> entries = new HashMap<>();
+
+    public RunHistory(Map<String, String> digests) {
+        this.digests = digests;
+    }
+
+    public static RunHistory read(Path dir) throws IOException {
+        Map<String, String> digests = mapper.readValue(dir.resolve(DIGESTS_FILE).toFile(),
+                new TypeReference<Map<String, String>>() {
+                });
+        RunHistory history = new RunHistory(digests);
+
+        try (BufferedReader reader = Files.newBufferedReader(dir.resolve(RESULTS_FILE), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                history.add(mapper.readValue(line, Entry.class));
+            }
+        }
+
+        return history;
+    }
+
+    public static boolean exists(Path dir) {
+        return Files.exists(dir.resolve(DIGESTS_FILE)) && Files.exists(dir.resolve(RESULTS_FILE));
+    }
+
+    public void add(Entry entry) {
+        entries.put(Set.copyOf(entry.faultload()), entry);
+    }
+
+    public Entry get(Set<Fault> faultload) {
+        return entries.get(faultload);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Map<String, String> getDigests() {
+        return digests;
+    }
+
+    /** Destinations that run the same image in both runs */
+    public Set<String> getUnchangedDestinations(Map<String, String> current) {
+        Set<String> unchanged = new HashSet<>();
+
+        for (var entry : digests.entrySet()) {
+            String currentDigest = current.get(entry.getKey());
+
+            if (currentDigest != null && Objects.equals(entry.getValue(), currentDigest)) {
+                unchanged.add(entry.getKey());
+            }
+        }
+
+        return unchanged;
+    }
+
+    /** Appends the results of the current run to a history directory */
+    public static class Recorder {
+        private final Path resultsFile;
+
+        public Recorder(Path dir, Map<String, String> digests) throws IOException {
+            Files.createDirectories(dir);
+            mapper.writeValue(dir.resolve(DIGESTS_FILE).toFile(), new LinkedHashMap<>(digests));
+            resultsFile = dir.resolve(RESULTS_FILE);
+            Files.writeString(resultsFile, "", StandardCharsets.UTF_8);
+        }
+
+        public synchronized void record(Entry entry) throws IOException {
+            String line = mapper.writeValueAsString(entry) + "\n";
+            Files.writeString(resultsFile, line, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        }
+    }
+}
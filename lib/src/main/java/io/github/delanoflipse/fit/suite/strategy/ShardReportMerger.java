@@ -0,0 +1,211 @@
+package io.github.delanoflipse.fit.suite.strategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Combines the report directories of sharded runs into a single report of
+ * the union.
+ *
+ * Every shard generates and prunes the complete space, but only runs its own
+ * part of it. Hence, run counts are summed, while generated and pruned counts
+ * are the maximum over the shards. The exploration tree is left out, as its
+ * indices refer to the order of visits within a single shard.
+ *
+ * Usage: ShardReportMerger output_dir shard_dir...
+ */
+public class ShardReportMerger {
+    public static final String SEARCH_SPACE = "search_space";
+    public static final String PRUNERS = "pruners";
+    public static final String GENERATOR = "DynamicExplorationGenerator";
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final JsonNodeFactory nodes = JsonNodeFactory.instance;
+
+    private static final Set<String> SUMMED = Set.of("total_run", "cases_run", "reused_results");
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardReportMerger <output dir> <shard dir>...");
+            System.exit(1);
+        }
+
+        List<Path> shards = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            shards.add(Path.of(args[i]));
+        }
+
+        merge(shards, Path.of(args[0]));
+    }
+
+    public static void merge(List<Path> shards, Path output) throws IOException {
+        Files.createDirectories(output);
+
+        List<JsonNode> searchSpaces = read(shards, SEARCH_SPACE);
+        if (!searchSpaces.isEmpty()) {
+            ObjectNode searchSpace = mergeSearchSpace(searchSpaces);
+            write(output, SEARCH_SPACE, searchSpace);
+
+            List<JsonNode> pruners = read(shards, PRUNERS);
+            if (!pruners.isEmpty()) {
+                write(output, PRUNERS, mergePruners(pruners, searchSpace.path("total_generated").asLong()));
+            }
+        }
+
+        List<JsonNode> generators = read(shards, GENERATOR);
+        if (!generators.isEmpty()) {
+            write(output, GENERATOR, mergeGenerator(generators));
+        }
+    }
+
+    private static List<JsonNode> read(List<Path> shards, String name) throws IOException {
+        List<JsonNode> reports = new ArrayList<>();
+
+        for (Path shard : shards) {
+            Path file = shard.resolve(name + ".json");
+            if (Files.exists(file)) {
+                reports.add(mapper.readTree(file.toFile()));
+            }
+        }
+
+        return reports;
+    }
+
+    private static void write(Path output, String name, JsonNode report) throws IOException {
+        mapper.writeValue(output.resolve(name + ".json").toFile(), report);
+    }
+
+    /** Objects are merged by key, arrays by union, and numbers by maximum */
+    private static JsonNode mergeMax(List<JsonNode> values) {
+        List<JsonNode> present = values.stream()
+                .filter(value -> value != null && !value.isMissingNode() && !value.isNull())
+                .toList();
+
+        if (present.isEmpty()) {
+            return nodes.nullNode();
+        }
+
+        JsonNode first = present.get(0);
+
+        if (first.isObject()) {
+            ObjectNode merged = nodes.objectNode();
+            Set<String> keys = new LinkedHashSet<>();
+            present.forEach(value -> value.fieldNames().forEachRemaining(keys::add));
+
+            for (String key : keys) {
+                merged.set(key, mergeMax(present.stream().map(value -> value.get(key)).toList()));
+            }
+
+            return merged;
+        }
+
+        if (first.isArray()) {
+            Set<JsonNode> union = new LinkedHashSet<>();
+            present.forEach(value -> value.forEach(union::add));
+            ArrayNode merged = nodes.arrayNode();
+            union.forEach(merged::add);
+            return merged;
+        }
+
+        if (first.isNumber()) {
+            JsonNode max = first;
+            for (JsonNode value : present) {
+                if (value.isNumber() && value.asDouble() > max.asDouble()) {
+                    max = value;
+                }
+            }
+            return max;
+        }
+
+        return first;
+    }
+
+    private static ObjectNode mergeSearchSpace(List<JsonNode> reports) {
+        ObjectNode merged = (ObjectNode) mergeMax(reports);
+
+        for (String key : SUMMED) {
+            if (merged.has(key)) {
+                merged.put(key, reports.stream().mapToLong(report -> report.path(key).asLong()).sum());
+            }
+        }
+
+        // The happy path is part of every shard
+        if (merged.has("cases_run")) {
+            merged.put("total_run", merged.get("cases_run").asLong() + 1);
+        }
+
+        merged.remove("other_shard");
+        merged.put("shards", reports.size());
+        return merged;
+    }
+
+    private static ObjectNode mergePruners(List<JsonNode> reports, long totalGenerated) {
+        ObjectNode merged = (ObjectNode) mergeMax(reports);
+
+        merged.forEach(pruner -> {
+            JsonNode directlyPruned = pruner.get("directly_pruned");
+            if (directlyPruned instanceof ObjectNode counts && totalGenerated > 0) {
+                counts.put("percentage", 100.0 * counts.path("count").asLong() / totalGenerated);
+            }
+        });
+
+        return merged;
+    }
+
+    private static ObjectNode mergeGenerator(List<JsonNode> reports) {
+        ObjectNode merged = nodes.objectNode();
+        ObjectNode details = (ObjectNode) mergeMax(reports.stream().map(report -> report.get("details")).toList());
+        ObjectNode stats = (ObjectNode) mergeMax(reports.stream().map(report -> report.get("stats")).toList());
+
+        // Union of the visited faultloads, in order of the shards
+        Set<JsonNode> visitedFaultloads = new LinkedHashSet<>();
+        JsonNode richest = reports.get(0);
+
+        for (JsonNode report : reports) {
+            JsonNode inOrder = report.path("visited").path("in_order");
+            inOrder.forEach(visited -> visitedFaultloads.add(visited.get("faultload")));
+
+            if (inOrder.size() > richest.path("visited").path("in_order").size()) {
+                richest = report;
+            }
+        }
+
+        ArrayNode inOrder = nodes.arrayNode();
+        int index = 0;
+        for (JsonNode faultload : visitedFaultloads) {
+            ObjectNode visited = nodes.objectNode();
+            visited.put("index", index++);
+            visited.set("faultload", faultload);
+            inOrder.add(visited);
+        }
+
+        stats.put("fault_injection_points", details.path("fault_injection_point_names").size());
+        stats.put("simplified_fault_injection_points",
+                details.path("simplified_fault_injection_points_names").size());
+        stats.put("visited_faultloads", visitedFaultloads.size());
+        stats.put("shards", reports.size());
+
+        ObjectNode visitReport = nodes.objectNode();
+        visitReport.set("in_order", inOrder);
+
+        merged.set("stats", stats);
+        merged.set("details", details);
+        // The shard that ran the most, and therefore learned the most
+        merged.set("implications", richest.get("implications"));
+        merged.set("visited", visitReport);
+        return merged;
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.delanoflipse.fit.suite.strategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.delanoflipse.fit.suite.faultload.Behaviour;
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
+import io.github.delanoflipse.fit.suite.faultload.Faultload;
+import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
+import io.github.delanoflipse.fit.suite.strategy.store.DynamicAnalysisStore;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore.DownstreamRequestEffect;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore.Substitution;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore.UpstreamResponseEffect;
+import io.github.delanoflipse.fit.suite.strategy.util.Pair;
+import io.github.delanoflipse.fit.suite.trace.tree.TraceReport;
+
+/**
+ * Snapshot of everything a run has learned, stored as gzipped JSON.
+ * Restoring a checkpoint replays the knowledge into a fresh runner, and
+ * continues the exploration from the saved frontier.
+ */
+public record StrategyCheckpoint(
+        int version,
+        List<FaultUid> points,
+        List<TraceReport> happyPath,
+        List<Set<Fault>> redundantFaultloads,
+        List<Set<FaultUid>> redundantUidSubsets,
+        List<Set<Fault>> redundantFaultSubsets,
+        List<Pair<Set<Fault>, List<Behaviour>>> historicResults,
+        List<DownstreamRequestEffect> downstreamRequests,
+        List<UpstreamResponseEffect> upstreamResponses,
+        List<Substitution> inclusions,
+        List<Substitution> exclusions,
+        DynamicExplorationGenerator.State generator) {
+
+    public static final int VERSION = 1;
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public static StrategyCheckpoint of(DynamicAnalysisStore store, DynamicExplorationGenerator generator,
+            List<Faultload> pending) {
+        ImplicationsStore implications = store.getImplications();
+
+        return new StrategyCheckpoint(
+                VERSION,
+                List.copyOf(store.getPoints()),
+                List.copyOf(store.getHappyPath().values()),
+                List.copyOf(store.getRedundantFaultloads()),
+                List.copyOf(store.getRedundantUidSubsets()),
+                List.copyOf(store.getRedundantFaultSubsets()),
+                List.copyOf(store.getHistoricResults()),
+                List.copyOf(implications.getDownstreamRequests()),
+                List.copyOf(implications.getUpstreamResponses()),
+                List.copyOf(implications.getInclusions()),
+                List.copyOf(implications.getExclusions()),
+                generator == null ? null : generator.getState(pending));
+    }
+
+    /** Replay the knowledge into the (empty) store and generator */
+    public void restore(DynamicAnalysisStore store, DynamicExplorationGenerator generator) {
+        for (var point : points) {
+            store.addFaultUid(point);
+        }
+
+        for (var report : happyPath) {
+            store.addHappyPath(report.injectionPoint, report);
+        }
+
+        for (var faultload : redundantFaultloads) {
+            store.pruneFaultload(faultload);
+        }
+
+        for (var subset : redundantUidSubsets) {
+            store.pruneFaultUidSubset(subset);
+        }
+
+        for (var subset : redundantFaultSubsets) {
+            store.pruneFaultSubset(subset);
+        }
+
+        for (var result : historicResults) {
+            store.addHistoricResult(result.first(), result.second());
+        }
+
+        ImplicationsStore implications = store.getImplications();
+
+        for (var downstream : downstreamRequests) {
+            implications.addDownstreamRequests(downstream.cause(), downstream.effects());
+        }
+
+        for (var upstream : upstreamResponses) {
+            implications.addUpstreamResponse(upstream.causes(), upstream.effect());
+        }
+
+        for (var inclusion : inclusions) {
+            implications.addInclusionEffect(inclusion.causes(), inclusion.effect());
+        }
+
+        for (var exclusion : exclusions) {
+            implications.addExclusionEffect(exclusion.causes(), exclusion.effect());
+        }
+
+        if (generator != null && this.generator != null) {
+            generator.restoreState(this.generator);
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        // Write to a temporary file first, so a crash never leaves a partial checkpoint
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+            mapper.writeValue(out, this);
+        }
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static StrategyCheckpoint read(Path file) throws IOException {
+        StrategyCheckpoint checkpoint;
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            checkpoint = mapper.readValue(in, StrategyCheckpoint.class);
+        }
+
+        if (checkpoint.version() != VERSION) {
+            throw new IOException("Unsupported checkpoint version " + checkpoint.version());
+        }
+
+        return checkpoint;
+    }
+
+    public static List<Faultload> toFaultloads(List<TrackedFaultload> tracked) {
+        List<Faultload> faultloads = new ArrayList<>(tracked.size());
+
+        for (var faultload : tracked) {
+            faultloads.add(faultload.getFaultload());
+        }
+
+        return faultloads;
+    }
+}
@@ -72,6 +72,16 @@ public class StrategyReporter {
         report.put("total_run", totalRun);
         report.put("cases_run", totalRun - 1);
 
+        long totalReused = statistics.getTotalReused();
+        if (totalReused > 0) {
+            report.put("reused_results", totalReused);
+        }
+
+        long totalOtherShard = statistics.getTotalOtherShard();
+        if (totalOtherShard > 0) {
+            report.put("other_shard", totalOtherShard);
+        }
+
         return report;
     }
 
@@ -174,6 +184,13 @@ public class StrategyReporter {
             }
         }
 
+        PrunerScheduler scheduler = runner.getPrunerScheduler();
+        if (scheduler != null) {
+            Map<String, Object> schedulerReport = scheduler.getReport();
+            schedulerReport.put("estimated_time_saved", nsConversions(scheduler.getEstimatedSavedNs()));
+            report.put("scheduler", schedulerReport);
+        }
+
         return report;
     }
 
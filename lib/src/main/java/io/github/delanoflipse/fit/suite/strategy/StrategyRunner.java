@@ -1,28 +1,46 @@
 package io.github.delanoflipse.fit.suite.strategy;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.github.delanoflipse.fit.suite.faultload.Behaviour;
 import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
 import io.github.delanoflipse.fit.suite.faultload.Faultload;
 import io.github.delanoflipse.fit.suite.faultload.modes.FailureMode;
 import io.github.delanoflipse.fit.suite.strategy.components.FeedbackContext;
 import io.github.delanoflipse.fit.suite.strategy.components.FeedbackContextProvider;
 import io.github.delanoflipse.fit.suite.strategy.components.FeedbackHandler;
+import io.github.delanoflipse.fit.suite.strategy.components.PruneContext;
 import io.github.delanoflipse.fit.suite.strategy.components.PruneContextProvider;
 import io.github.delanoflipse.fit.suite.strategy.components.PruneDecision;
 import io.github.delanoflipse.fit.suite.strategy.components.Pruner;
 import io.github.delanoflipse.fit.suite.strategy.components.Reporter;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.TimingAnalyzer;
 import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
 import io.github.delanoflipse.fit.suite.strategy.components.generators.Generator;
+import io.github.delanoflipse.fit.suite.strategy.distributed.ExplorationWorker;
+import io.github.delanoflipse.fit.suite.strategy.distributed.Message;
 import io.github.delanoflipse.fit.suite.strategy.store.DynamicAnalysisStore;
 import io.github.delanoflipse.fit.suite.strategy.util.Sets;
+import io.github.delanoflipse.fit.suite.strategy.util.TraceAnalysis;
 import io.github.delanoflipse.fit.suite.util.TaggedTimer;
 
 public class StrategyRunner {
@@ -33,6 +51,9 @@ public class StrategyRunner {
     private final List<Pruner> pruners = new ArrayList<>();
     private final List<Reporter> reporters = new ArrayList<>();
     private final List<String> componentNames = new ArrayList<>();
+    private final Map<Pruner, PruneMemo> pruneMemos = new HashMap<>();
+    private PrunerScheduler prunerScheduler = null;
+    private BudgetPlanner budgetPlanner = null;
 
     public StrategyStatistics statistics = new StrategyStatistics(this);
 
@@ -55,8 +76,62 @@ public class StrategyRunner {
     private Path outputDir = null;
     private String contextName = "";
 
+    // Faultloads that are executed concurrently, null if executed one by one
+    private FaultloadLanes lanes = null;
+
+    // Faultloads generated ahead of time, while tests are running. The
+    // generator, store and pruners are guarded by the exploration lock, which
+    // the speculator holds instead of the runner monitor. Results that arrive
+    // while it is generating are applied by it afterwards.
+    private int speculationDepth = 0;
+    private final ReentrantLock exploration = new ReentrantLock(true);
+    private final Condition speculationWork = exploration.newCondition();
+    private final Deque<Faultload> speculated = new ArrayDeque<>();
+    private final Queue<FaultloadResult> pendingResults = new ConcurrentLinkedQueue<>();
+
+    // Faultloads that were handed out, but never executed, to hand out again
+    private final Deque<Faultload> retried = new ArrayDeque<>();
+    private boolean speculationExhausted = false;
+    private volatile boolean speculationStopped = false;
+    private Thread speculator = null;
+
+    // Periodic checkpoints of the exploration, disabled if null
+    private Path checkpointFile = null;
+    private int checkpointInterval = 0;
+    private int resultsSinceCheckpoint = 0;
+
+    // Knowledge carried over between runs, disabled if null
+    private Path knowledgeFile = null;
+    private boolean knowledgePreloaded = false;
+    private boolean knowledgeDiscarded = false;
+
+    // Results of a previous run that can be carried over, and the recording
+    // of this run for the next
+    private RunHistory previousRun = null;
+    private Set<String> unchangedDestinations = Set.of();
+    private RunHistory.Recorder runRecorder = null;
+
+    // Outcomes of identical faultloads against an identical application
+    private OutcomeCache outcomeCache = null;
+    private String appFingerprint = "";
+
+    // Part of the fault space explored by this runner, everything if null
+    private FaultloadShard shard = null;
+
+    // Exploration owned by a remote coordinator, null if local
+    private ExplorationWorker coordinator = null;
+    private int leaseSize = 1;
+    private final Deque<Message.Lease> leased = new ArrayDeque<>();
+    private final Map<TrackedFaultload, Long> leaseIds = new HashMap<>();
+
     private final Logger logger = LoggerFactory.getLogger(StrategyRunner.class);
 
+    // Decisions of a pruner, valid as long as its version does not change
+    private static class PruneMemo {
+        private long version = -1;
+        private final Map<Set<Fault>, PruneDecision> decisions = new HashMap<>();
+    }
+
     public StrategyRunner(List<FailureMode> modes) {
         this.store = new DynamicAnalysisStore(modes);
     }
@@ -81,6 +156,14 @@ public class StrategyRunner {
         return this;
     }
 
+    public StrategyRunner withAdaptivePruning() {
+        prunerScheduler = new PrunerScheduler();
+        for (Pruner pruner : pruners) {
+            prunerScheduler.register(pruner);
+        }
+        return this;
+    }
+
     public StrategyRunner withCallStack() {
         withCallStack = true;
         return this;
@@ -107,6 +190,132 @@ public class StrategyRunner {
         return this;
     }
 
+    /**
+     * Stop after the given time, and in the meantime prefer faultloads with
+     * the highest expected information per second. Should be called after
+     * the generator and analyzers are added.
+     */
+    public StrategyRunner withTimeBudget(long seconds) {
+        withMaxTimeS(seconds);
+
+        TimingAnalyzer timingAnalyzer = analyzers.stream()
+                .filter(TimingAnalyzer.class::isInstance)
+                .map(TimingAnalyzer.class::cast)
+                .findFirst()
+                .orElse(null);
+
+        budgetPlanner = new BudgetPlanner(seconds * 1000, startTime, timingAnalyzer);
+        withComponent(budgetPlanner);
+
+        if (generator instanceof DynamicExplorationGenerator dynamicGenerator) {
+            dynamicGenerator.withCandidateScore(budgetPlanner::score, BudgetPlanner.LOOKAHEAD);
+        } else {
+            logger.warn("Generator does not support budget-aware ordering, only the time limit applies");
+        }
+
+        return this;
+    }
+
+    public StrategyRunner withLanes(int lanes) {
+        this.lanes = lanes > 1 ? new FaultloadLanes(lanes) : null;
+        return this;
+    }
+
+    /** Only run the faultloads in the given shard of the fault space */
+    public StrategyRunner withShard(FaultloadShard shard) {
+        this.shard = shard;
+        return this;
+    }
+
+    /**
+     * Run faultloads leased from a remote coordinator, and send the results
+     * back instead of analysing them locally.
+     */
+    public StrategyRunner withCoordinator(ExplorationWorker coordinator, int leaseSize) {
+        this.coordinator = coordinator;
+        this.leaseSize = Math.max(1, leaseSize);
+        return this;
+    }
+
+    /**
+     * Generate up to `depth` faultloads in the background while tests are
+     * running. Only applies when faultloads are executed one by one.
+     */
+    public StrategyRunner withSpeculation(int depth) {
+        speculationDepth = depth;
+        return this;
+    }
+
+    /** Write a checkpoint to the file after every `interval` results */
+    public StrategyRunner withCheckpoint(Path file, int interval) {
+        checkpointFile = file;
+        checkpointInterval = interval;
+        return this;
+    }
+
+    /**
+     * Continue the exploration of a previous run from its checkpoint.
+     * Call after all components are registered.
+     */
+    public StrategyRunner resumeFrom(Path file) throws IOException {
+        StrategyCheckpoint checkpoint = StrategyCheckpoint.read(file);
+        // The checkpoint supersedes any preloaded knowledge
+        store.clear();
+        knowledgePreloaded = false;
+        checkpoint.restore(store, getExplorationGenerator());
+
+        // The happy path is already known
+        intialRun = false;
+        logger.info("Resumed from checkpoint {} with {} historic results", file,
+                checkpoint.historicResults().size());
+        return this;
+    }
+
+    /**
+     * Preload the knowledge of previous runs from the file, if it exists, and
+     * store the knowledge of this run in it when done.
+     * The preloaded knowledge is discarded if it does not predict the happy path.
+     */
+    public StrategyRunner withKnowledgeBase(Path file) throws IOException {
+        knowledgeFile = file;
+
+        if (file.toFile().exists()) {
+            StrategyCheckpoint.read(file).restore(store, null);
+            knowledgePreloaded = true;
+            logger.info("Preloaded knowledge of {} points from {}", store.getPoints().size(), file);
+        }
+
+        return this;
+    }
+
+    /**
+     * Carry over the results of a previous run for faultloads that only
+     * involve services whose image did not change since.
+     */
+    public StrategyRunner withPreviousRun(RunHistory previous, Map<String, String> digests) {
+        previousRun = previous;
+        unchangedDestinations = previous.getUnchangedDestinations(digests);
+        logger.info("Loaded {} previous results, {} of {} services are unchanged", previous.size(),
+                unchangedDestinations.size(), digests.size());
+        return this;
+    }
+
+    /** Record all results of this run */
+    public StrategyRunner withRunRecorder(RunHistory.Recorder recorder) {
+        runRecorder = recorder;
+        return this;
+    }
+
+    /**
+     * Serve results of faultloads that were run before against the same
+     * application (identified by the fingerprint) from the cache.
+     */
+    public StrategyRunner withOutcomeCache(OutcomeCache cache, String appFingerprint) {
+        outcomeCache = cache;
+        this.appFingerprint = appFingerprint;
+        return this;
+    }
+
     public StrategyRunner withComponent(Object component) {
         List<String> attributes = new ArrayList<>();
         String className = component.getClass().getSimpleName();
@@ -124,6 +333,10 @@ public class StrategyRunner {
         if (component instanceof Pruner pruner) {
             pruners.add(pruner);
             attributes.add("Pruner");
+
+            if (prunerScheduler != null) {
+                prunerScheduler.register(pruner);
+            }
         }
 
         if (component instanceof Reporter reporter) {
@@ -171,6 +384,14 @@ public class StrategyRunner {
         return store;
     }
 
+    public boolean hasLanes() {
+        return lanes != null;
+    }
+
+    public PrunerScheduler getPrunerScheduler() {
+        return prunerScheduler;
+    }
+
     public List<Reporter> getReporters() {
         return reporters;
     }
@@ -180,20 +401,214 @@ public class StrategyRunner {
     }
 
     public TrackedFaultload nextFaultload() {
-        Faultload faultload = getNextFaultload();
+        if (coordinator != null) {
+            return nextLeasedFaultload();
+        }
 
-        if (faultload == null) {
+        TrackedFaultload next;
+
+        if (lanes != null) {
+            next = nextFaultloadInLane();
+        } else {
+            Faultload faultload = getNextFaultload();
+            next = faultload == null ? null : toTracked(faultload);
+        }
+
+        if (next == null) {
+            stopSpeculation();
+            writeCheckpoint();
+            writeKnowledge();
+        } else if (speculationDepth > 0 && speculator == null && lanes == null) {
+            startSpeculation();
+        }
+
+        return next;
+    }
+
+    private void startSpeculation() {
+        speculator = new Thread(this::speculate, "fit-speculative-generator");
+        speculator.setDaemon(true);
+        speculator.start();
+    }
+
+    private void stopSpeculation() {
+        if (speculator == null) {
+            return;
+        }
+
+        speculationStopped = true;
+        exploration.lock();
+        try {
+            speculationWork.signalAll();
+        } finally {
+            exploration.unlock();
+        }
+
+        try {
+            speculator.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean shouldSpeculate() {
+        return !intialRun
+                && !stopDueToError
+                && !speculationExhausted
+                && speculated.size() < speculationDepth;
+    }
+
+    private void speculate() {
+        while (!speculationStopped) {
+            exploration.lock();
+            try {
+                applyPendingResults();
+
+                if (speculationStopped) {
+                    return;
+                }
+
+                if (!shouldSpeculate()) {
+                    if (pendingResults.isEmpty()) {
+                        speculationWork.await();
+                    }
+
+                    continue;
+                }
+
+                Faultload faultload = generateAndPruneTillNext();
+
+                if (faultload == null) {
+                    // Wait for new feedback before trying again
+                    speculationExhausted = true;
+                } else {
+                    speculated.addLast(faultload);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                exploration.unlock();
+            }
+        }
+    }
+
+    /** Apply the results that arrived while the speculator was generating */
+    private void applyPendingResults() {
+        FaultloadResult result;
+
+        while ((result = pendingResults.poll()) != null) {
+            applyResult(result);
+        }
+    }
+
+    /**
+     * Drop the speculated faultloads that are pruned with the knowledge of
+     * the new result. Pruners whose version did not change answer from their
+     * memo, so only the decisions that can differ are recomputed.
+     */
+    private void revalidateSpeculated() {
+        speculated.removeIf(faultload -> prune(faultload) != PruneDecision.KEEP);
+    }
+
+    /**
+     * Hand out up to max faultloads at once. Blocks until at least one is
+     * available, an empty list means the exploration is done.
+     */
+    public synchronized List<TrackedFaultload> nextFaultloads(int max) {
+        List<TrackedFaultload> batch = new ArrayList<>();
+        TrackedFaultload first = nextFaultload();
+
+        if (first == null) {
+            return batch;
+        }
+
+        batch.add(first);
+
+        // Only hand out more if that does not require waiting for feedback
+        while (batch.size() < max && lanes != null && !lanes.isFull()) {
+            Faultload faultload = getNextFaultload();
+
+            if (faultload == null) {
+                break;
+            }
+
+            TrackedFaultload tracked = toTracked(faultload);
+            lanes.issue(tracked);
+            batch.add(tracked);
+        }
+
+        return batch;
+    }
+
+    private synchronized TrackedFaultload nextLeasedFaultload() {
+        if (leased.isEmpty()) {
+            try {
+                leased.addAll(coordinator.lease(leaseSize));
+            } catch (IOException e) {
+                logger.error("Failed to lease faultloads from the coordinator, stopping!", e);
+                return null;
+            }
+        }
+
+        Message.Lease lease = leased.pollFirst();
+
+        if (lease == null) {
+            logger.info("Coordinator has no more faultloads, stopping!");
             return null;
         }
 
-        return toTracked(faultload);
+        TrackedFaultload tracked = toTracked(new Faultload(lease.faults()));
+        leaseIds.put(tracked, lease.id());
+        return tracked;
+    }
+
+    private synchronized TrackedFaultload nextFaultloadInLane() {
+        while (true) {
+            if (!lanes.isFull()) {
+                Faultload faultload = getNextFaultload();
+
+                if (faultload != null) {
+                    TrackedFaultload tracked = toTracked(faultload);
+                    lanes.issue(tracked);
+                    return tracked;
+                }
+
+                // Nothing is in flight that can lead to new faultloads
+                if (lanes.isIdle()) {
+                    return null;
+                }
+            }
+
+            // Wait for a lane to free up, or for new feedback
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    private synchronized Faultload getNextFaultload() {
+        exploration.lock();
+        try {
+            applyPendingResults();
+            return pollNextFaultload();
+        } finally {
+            exploration.unlock();
+        }
     }
 
-    private Faultload getNextFaultload() {
+    private Faultload pollNextFaultload() {
         if (intialRun) {
             intialRun = false;
             logger.info("Starting with initial empty faultload!");
-            return new Faultload(Set.of());
+            Faultload initial = new Faultload(Set.of());
+
+            if (!reuseCachedResult(initial)) {
+                return initial;
+            }
         }
 
         if (stopDueToError) {
@@ -201,13 +616,16 @@ public class StrategyRunner {
             return null;
         }
 
+        // Already counted towards the limits when first handed out
+        if (!retried.isEmpty()) {
+            return retried.pollFirst();
+        }
+
         // Queue is empty, no more faultloads to run
         // Test case limit reached
         if (testCasesLeft == 0) {
             logger.warn("Reached test case limit, stopping!");
             return null;
-        } else if (testCasesLeft > 0) {
-            testCasesLeft--;
         }
 
         if (maxTimeS > 0) {
@@ -218,16 +636,121 @@ public class StrategyRunner {
             }
         }
 
-        Faultload faultload = generateAndPruneTillNext();
+        Faultload faultload = speculated.isEmpty()
+                ? generateAndPruneTillNext()
+                : speculated.pollFirst();
+
+        // Skip faultloads whose previous result still holds
+        while (faultload != null && (skipOtherShard(faultload) || reusePreviousResult(faultload)
+                || reuseCachedResult(faultload))) {
+            faultload = generateAndPruneTillNext();
+        }
 
         if (faultload == null) {
             logger.info("No new faultload generated, stopping!");
             return null;
         }
 
+        if (testCasesLeft > 0) {
+            testCasesLeft--;
+        }
+
         return faultload;
     }
 
+    /**
+     * Skip faultloads of other shards. The generator still explores past them
+     * as if they behaved as expected, but the prediction is not analysed.
+     */
+    private boolean skipOtherShard(Faultload faultload) {
+        if (shard == null || shard.contains(faultload)) {
+            return false;
+        }
+
+        if (generator instanceof FeedbackHandler handler) {
+            TraceAnalysis predicted = FaultloadShard.predictTrace(faultload,
+                    store.getExpectedBehaviour(faultload.faultSet()));
+            FaultloadResult result = new FaultloadResult(toTracked(faultload), predicted, true);
+            handler.handleFeedback(result, new FeedbackContextProvider(this, generator.getClass()));
+        }
+
+        logger.debug("Skipping faultload {} of another shard", faultload.readableString());
+        statistics.incrementOtherShard(1);
+        return true;
+    }
+
+    private boolean touchesOnlyUnchanged(Collection<Behaviour> behaviours) {
+        for (Behaviour behaviour : behaviours) {
+            if (!unchangedDestinations.contains(behaviour.uid().destination())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean reusePreviousResult(Faultload faultload) {
+        if (previousRun == null || faultload.faultSet().isEmpty()) {
+            return false;
+        }
+
+        RunHistory.Entry previous = previousRun.get(faultload.faultSet());
+        if (previous == null) {
+            return false;
+        }
+
+        TraceAnalysis trace = new TraceAnalysis(previous.reports());
+
+        // Both the expected and the previously observed behaviour must be
+        // unaffected by the changed services
+        if (!touchesOnlyUnchanged(store.getExpectedBehaviour(faultload.faultSet()))
+                || !touchesOnlyUnchanged(trace.getBehaviours())) {
+            return false;
+        }
+
+        logger.info("Reusing previous result for faultload {}", faultload.readableString());
+        applyReusedResult(faultload, trace, previous.passed());
+        return true;
+    }
+
+    /** The fingerprint of the application and the options that influence the outcome */
+    private String getOutcomeFingerprint() {
+        return String.join("|", appFingerprint, contextName,
+                "mask=" + withPayloadMasking,
+                "hashbody=" + withBodyHashing,
+                "headerlog=" + withLogHeader,
+                "callstack=" + withCallStack);
+    }
+
+    private boolean reuseCachedResult(Faultload faultload) {
+        if (outcomeCache == null) {
+            return false;
+        }
+
+        RunHistory.Entry cached = outcomeCache.get(faultload, getOutcomeFingerprint());
+        if (cached == null) {
+            return false;
+        }
+
+        logger.info("Reusing cached outcome for faultload {}", faultload.readableString());
+        applyReusedResult(faultload, new TraceAnalysis(cached.reports()), cached.passed());
+        return true;
+    }
+
+    private void applyReusedResult(Faultload faultload, TraceAnalysis trace, boolean passed) {
+        TrackedFaultload tracked = toTracked(faultload);
+        FaultloadResult result = new FaultloadResult(tracked, trace, passed);
+        statistics.incrementReused(1);
+
+        if (lanes == null) {
+            applyResult(result);
+        } else {
+            lanes.issue(tracked);
+            lanes.complete(tracked, result);
+            releaseLanes();
+        }
+    }
+
     private TrackedFaultload toTracked(Faultload faultload) {
         // Wrap the faultload in a tracked faultload
         // And prepare its properties
@@ -301,15 +824,160 @@ public class StrategyRunner {
         return next;
     }
 
-    public void registerTime(TrackedFaultload faultload) {
+    public synchronized void registerTime(TrackedFaultload faultload) {
         statistics.registerTime(faultload.timer);
+
+        if (budgetPlanner != null) {
+            budgetPlanner.recordTest(faultload.timer);
+        }
     }
 
-    public void registerTime(TaggedTimer timer) {
+    public synchronized void registerTime(TaggedTimer timer) {
         statistics.registerTime(timer);
     }
 
-    public void handleResult(FaultloadResult result) {
+    public synchronized void registerRun() {
+        statistics.registerRun();
+    }
+
+    public synchronized void handleResult(FaultloadResult result) {
+        if (coordinator != null) {
+            Long id = leaseIds.remove(result.trackedFaultload);
+            if (id == null) {
+                logger.warn("Faultload {} was not leased from the coordinator", result.trackedFaultload.readableString());
+                return;
+            }
+
+            try {
+                coordinator.sendResult(id, result.trace.getReports(), result.passed);
+            } catch (IOException e) {
+                logger.error("Failed to send result to the coordinator", e);
+            }
+
+            return;
+        }
+
+        if (lanes == null && speculator != null) {
+            // Applied right away if the speculator is idle, otherwise by the
+            // speculator once its current pass is done
+            pendingResults.add(result);
+
+            if (exploration.tryLock()) {
+                try {
+                    applyPendingResults();
+                } finally {
+                    exploration.unlock();
+                }
+            }
+
+            return;
+        }
+
+        if (lanes == null) {
+            applyResult(result);
+            return;
+        }
+
+        // Results are applied in the order the faultloads were handed out
+        lanes.complete(result.trackedFaultload, result);
+        releaseLanes();
+    }
+
+    /** Mark a faultload as finished without a usable result */
+    public synchronized void discardResult(TrackedFaultload faultload) {
+        if (coordinator != null) {
+            Long id = leaseIds.remove(faultload);
+            if (id == null) {
+                logger.warn("Faultload {} was not leased from the coordinator", faultload.readableString());
+                return;
+            }
+
+            try {
+                coordinator.discard(id);
+            } catch (IOException e) {
+                logger.error("Failed to discard result at the coordinator", e);
+            }
+
+            return;
+        }
+
+        if (lanes == null) {
+            return;
+        }
+
+        lanes.complete(faultload, null);
+        releaseLanes();
+    }
+
+    /**
+     * Mark a faultload as finished without being executed, and hand it out
+     * again, e.g. when the worker that leased it disconnected.
+     */
+    public synchronized void retryFaultload(TrackedFaultload faultload) {
+        exploration.lock();
+        try {
+            retried.addLast(faultload.getFaultload());
+        } finally {
+            exploration.unlock();
+        }
+
+        if (lanes == null) {
+            return;
+        }
+
+        lanes.complete(faultload, null);
+        releaseLanes();
+    }
+
+    private void releaseLanes() {
+        for (FaultloadResult released : lanes.release()) {
+            applyResult(released);
+        }
+
+        notifyAll();
+    }
+
+    private void recordResult(FaultloadResult result) {
+        if (runRecorder == null && outcomeCache == null) {
+            return;
+        }
+
+        Faultload faultload = result.trackedFaultload.getFaultload();
+        RunHistory.Entry entry = new RunHistory.Entry(faultload.faultSet(), result.trace.getReports(),
+                result.passed);
+
+        try {
+            if (runRecorder != null) {
+                runRecorder.record(entry);
+            }
+
+            if (outcomeCache != null) {
+                outcomeCache.put(faultload, getOutcomeFingerprint(), entry);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to record result", e);
+        }
+    }
+
+    private void applyResult(FaultloadResult result) {
+        exploration.lock();
+        try {
+            processResult(result);
+
+            // New feedback can lead to new faultloads, and prune speculated ones
+            speculationExhausted = false;
+            if (!speculated.isEmpty()) {
+                revalidateSpeculated();
+            }
+            speculationWork.signalAll();
+        } finally {
+            exploration.unlock();
+        }
+    }
+
+    private void processResult(FaultloadResult result) {
+        recordResult(result);
+
         store.addHistoricResult(result.trace.getInjectedFaults(), result.trace.getBehaviours());
 
         logger.info("Analyzing result of running faultload with traceId=" + result.trackedFaultload.getTraceId());
@@ -327,8 +995,98 @@ public class StrategyRunner {
             return;
         }
 
+        if (result.isInitial() && knowledgePreloaded) {
+            validateKnowledge(result);
+        }
+
         // analyze the result
         analyze(result);
+
+        if (checkpointFile != null && ++resultsSinceCheckpoint >= checkpointInterval) {
+            writeCheckpoint();
+        }
+    }
+
+    /** Discard the preloaded knowledge if it does not match the happy path */
+    private void validateKnowledge(FaultloadResult result) {
+        knowledgePreloaded = false;
+
+        // The trace leaves out the initial request, as no faults are injected there
+        Set<FaultUid> expected = store.getExpectedPoints(Set.of()).stream()
+                .filter(uid -> !uid.isInitial())
+                .collect(Collectors.toSet());
+        Set<FaultUid> actual = result.trace.getFaultUids();
+
+        if (expected.equals(actual)) {
+            logger.info("Preloaded knowledge matches the happy path");
+            return;
+        }
+
+        logger.warn("Preloaded knowledge does not match the happy path, discarding it!");
+        logger.warn("Expected {} but found {}", expected, actual);
+        knowledgeDiscarded = true;
+        store.clear();
+        // Keep the result of this run, the analysis starts fresh from here
+        store.addHistoricResult(result.trace.getInjectedFaults(), result.trace.getBehaviours());
+    }
+
+    /** Whether the preloaded knowledge did not match the happy path */
+    public boolean isKnowledgeDiscarded() {
+        return knowledgeDiscarded;
+    }
+
+    /** Store the knowledge of this run, if enabled */
+    public void writeKnowledge() {
+        if (knowledgeFile == null) {
+            return;
+        }
+
+        exploration.lock();
+        try {
+            StrategyCheckpoint.of(store, null, List.of()).write(knowledgeFile);
+            logger.info("Wrote knowledge base to {}", knowledgeFile);
+        } catch (IOException e) {
+            logger.error("Failed to write knowledge base to {}", knowledgeFile, e);
+        } finally {
+            exploration.unlock();
+        }
+    }
+
+    private DynamicExplorationGenerator getExplorationGenerator() {
+        if (generator instanceof DynamicExplorationGenerator gen) {
+            return gen;
+        }
+
+        return null;
+    }
+
+    /** Write a checkpoint of everything learned so far, if enabled */
+    public void writeCheckpoint() {
+        if (checkpointFile == null) {
+            return;
+        }
+
+        // Generated faultloads without an (applied) result are explored again
+        List<Faultload> pending = new ArrayList<>();
+        if (lanes != null) {
+            // Lanes are guarded by the runner, and never run with a speculator
+            synchronized (this) {
+                pending.addAll(StrategyCheckpoint.toFaultloads(lanes.getPending()));
+            }
+        }
+
+        exploration.lock();
+        try {
+            pending.addAll(retried);
+            pending.addAll(speculated);
+            StrategyCheckpoint.of(store, getExplorationGenerator(), pending).write(checkpointFile);
+            resultsSinceCheckpoint = 0;
+            logger.info("Wrote checkpoint to {}", checkpointFile);
+        } catch (IOException e) {
+            logger.error("Failed to write checkpoint to {}", checkpointFile, e);
+        } finally {
+            exploration.unlock();
+        }
     }
 
     public Faultload generate() {
@@ -362,6 +1120,45 @@ public class StrategyRunner {
         result.trackedFaultload.timer.stop("StrategyRunner.analyze");
     }
 
+    /** Call the pruner, and feed its actual cost to the scheduler */
+    private PruneDecision evaluate(Pruner pruner, Faultload faultload, PruneContext context) {
+        long startNs = System.nanoTime();
+        PruneDecision decision = pruner.prune(faultload, context);
+        long durationNs = System.nanoTime() - startNs;
+
+        if (prunerScheduler != null) {
+            prunerScheduler.record(pruner, durationNs, decision != PruneDecision.KEEP);
+        }
+
+        return decision;
+    }
+
+    private PruneDecision pruneMemoized(Pruner pruner, Faultload faultload, PruneContext context) {
+        long version = pruner.getVersion(context);
+
+        if (version < 0) {
+            return evaluate(pruner, faultload, context);
+        }
+
+        PruneMemo memo = pruneMemos.computeIfAbsent(pruner, k -> new PruneMemo());
+
+        if (memo.version != version) {
+            memo.decisions.clear();
+            memo.version = version;
+        }
+
+        PruneDecision decision = memo.decisions.get(faultload.faultSet());
+
+        if (decision == null) {
+            decision = evaluate(pruner, faultload, context);
+            memo.decisions.put(Set.copyOf(faultload.faultSet()), decision);
+        } else if (prunerScheduler != null) {
+            prunerScheduler.recordMemoHit(pruner);
+        }
+
+        return decision;
+    }
+
     public PruneDecision prune(Set<Fault> fs) {
         return prune(new Faultload(fs));
     }
@@ -372,15 +1169,19 @@ public class StrategyRunner {
         // the pruners of the most impactfull class
         Set<Pruner> attributed = new LinkedHashSet<>();
 
-        for (Pruner pruner : pruners) {
+        List<Pruner> order = prunerScheduler == null ? pruners : prunerScheduler.getOrder();
+
+        for (int i = 0; i < order.size(); i++) {
+            Pruner pruner = order.get(i);
             TaggedTimer pruneTimer = new TaggedTimer();
             String name = pruner.getClass().getSimpleName();
             String tag = name + ".prune<Pruner>";
             pruneTimer.start(tag);
             PruneContextProvider context = new PruneContextProvider(this, pruner.getClass());
-            PruneDecision decision = pruner.prune(faultload, context);
+            PruneDecision decision = pruneMemoized(pruner, faultload, context);
             pruneTimer.stop(tag);
             statistics.registerTime(pruneTimer);
+
             switch (decision) {
                 case PRUNE -> {
                     if (pruneDecision == PruneDecision.KEEP) {
@@ -400,6 +1201,13 @@ public class StrategyRunner {
                 case KEEP -> {
                 }
             }
+
+            // Any prune verdict is decisive for the generator, skip the rest
+            if (prunerScheduler != null && decision != PruneDecision.KEEP && !withCheckAllPruners
+                    && prunerScheduler.canShortCircuit()) {
+                prunerScheduler.skip(order.subList(i + 1, order.size()));
+                break;
+            }
         }
 
         if (attributed.size() == 1) {
@@ -21,36 +21,46 @@ public class StrategyStatistics {
     private long totalSize = 0;
     private long totalGenerated = 0;
     private long totalPruned = 0;
+    private long totalReused = 0;
+    private long totalOtherShard = 0;
 
     public StrategyStatistics(StrategyRunner runner) {
         this.runner = runner;
     }
 
-    public void incrementGenerator(String generator, long count) {
+    public synchronized void incrementGenerator(String generator, long count) {
         generatorCount.put(generator, generatorCount.getOrDefault(generator, 0L) + count);
         totalGenerated += count;
     }
 
-    public void incrementPruner(String pruner, long count) {
+    public synchronized void incrementPruner(String pruner, long count) {
         prunerCount.put(pruner, prunerCount.getOrDefault(pruner, 0L) + count);
     }
 
-    public void incrementPruned(long count) {
+    public synchronized void incrementPruned(long count) {
         totalPruned += count;
     }
 
-    public void setSize(long size) {
+    public synchronized void incrementReused(long count) {
+        totalReused += count;
+    }
+
+    public synchronized void incrementOtherShard(long count) {
+        totalOtherShard += count;
+    }
+
+    public synchronized void setSize(long size) {
         totalSize = size;
     }
 
-    public void registerTime(TaggedTimer timer) {
+    public synchronized void registerTime(TaggedTimer timer) {
         for (var entry : timer.getTimingsNs()) {
             timings.add(entry);
             tags.add(entry.first());
         }
     }
 
-    public void registerRun() {
+    public synchronized void registerRun() {
         totalRun++;
     }
 
@@ -71,28 +81,36 @@ public class StrategyStatistics {
         return tags;
     }
 
-    public long getTotalRun() {
+    public synchronized long getTotalRun() {
         return totalRun;
     }
 
-    public long getTotalSize() {
+    public synchronized long getTotalSize() {
         return totalSize;
     }
 
-    public long getTotalGenerated() {
+    public synchronized long getTotalGenerated() {
         return totalGenerated;
     }
 
-    public long getTotalPruned() {
+    public synchronized long getTotalPruned() {
         return totalPruned;
     }
 
+    public synchronized long getTotalReused() {
+        return totalReused;
+    }
+
+    public synchronized long getTotalOtherShard() {
+        return totalOtherShard;
+    }
+
     public void report() {
         var reporter = new StrategyReporter(runner);
         reporter.report();
     }
 
-    public void reset() {
+    public synchronized void reset() {
         generatorCount.clear();
         prunerCount.clear();
         timings.clear();
@@ -101,5 +119,7 @@ public class StrategyStatistics {
         totalSize = 0;
         totalGenerated = 0;
         totalPruned = 0;
+        totalReused = 0;
+        totalOtherShard = 0;
     }
 }
@@ -114,7 +114,7 @@ public class FeedbackContextProvider extends FeedbackContext {
         return stores.containsKey(contextName);
     }
 
-    private static <X> Map<Integer, Integer> getDistribution(List<Set<X>> subsets) {
+    private static <X> Map<Integer, Integer> getDistribution(Collection<Set<X>> subsets) {
         Map<Integer, Integer> sizeCount = new HashMap<>();
         for (var subset : subsets) {
             int size = subset.size();
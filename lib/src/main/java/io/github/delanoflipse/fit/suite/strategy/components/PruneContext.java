@@ -33,4 +33,14 @@ public abstract class PruneContext {
     }
 
     public abstract long spaceSize();
+
+    /** Increases on every change to the implications, -1 if unknown */
+    public long getImplicationsVersion() {
+        return -1;
+    }
+
+    /** Increases on every change to the historic results, -1 if unknown */
+    public long getHistoricResultsVersion() {
+        return -1;
+    }
 }
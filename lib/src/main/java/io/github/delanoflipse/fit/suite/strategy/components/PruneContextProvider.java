@@ -52,6 +52,16 @@ public class PruneContextProvider extends PruneContext {
         return runner.getGenerator().spaceSize();
     }
 
+    @Override
+    public long getImplicationsVersion() {
+        return runner.getGenerator().getImplicationsVersion();
+    }
+
+    @Override
+    public long getHistoricResultsVersion() {
+        return runner.getGenerator().getHistoricResultsVersion();
+    }
+
     @Override
     public List<Pair<Set<Fault>, List<Behaviour>>> getHistoricResults() {
         return runner.getGenerator().getHistoricResults();
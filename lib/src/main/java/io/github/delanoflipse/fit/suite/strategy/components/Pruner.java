@@ -4,4 +4,13 @@ import io.github.delanoflipse.fit.suite.faultload.Faultload;
 
 public interface Pruner {
     public PruneDecision prune(Faultload faultload, PruneContext context);
+
+    /**
+     * Version of the state that the decisions of this pruner depend on.
+     * Decisions are memoized until the version changes, a negative version
+     * disables memoization.
+     */
+    public default long getVersion(PruneContext context) {
+        return -1;
+    }
 }
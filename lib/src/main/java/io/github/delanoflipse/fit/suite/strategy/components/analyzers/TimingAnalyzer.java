@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.delanoflipse.fit.suite.faultload.Behaviour;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
 import io.github.delanoflipse.fit.suite.strategy.FaultloadResult;
 import io.github.delanoflipse.fit.suite.strategy.components.FeedbackContext;
 import io.github.delanoflipse.fit.suite.strategy.components.FeedbackHandler;
@@ -22,6 +23,8 @@ public class TimingAnalyzer implements FeedbackHandler, Reporter {
 
     private final Map<Behaviour, List<Float>> responseTimings = new LinkedHashMap<>();
     private final Map<Behaviour, List<Float>> overheadTimings = new LinkedHashMap<>();
+    // Running sum and count of happy path response times per point
+    private final Map<FaultUid, double[]> pointTimings = new LinkedHashMap<>();
 
     private void addTiming(Map<Behaviour, List<Float>> timings, Behaviour b, float timing) {
         if (timing <= 0) {
@@ -37,9 +40,26 @@ public class TimingAnalyzer implements FeedbackHandler, Reporter {
             var behaviour = report.getBehaviour();
             addTiming(responseTimings, behaviour, report.response.durationMs);
             addTiming(overheadTimings, behaviour, report.response.overheadDurationMs);
+
+            if (behaviour.isHappyPath() && report.response.durationMs > 0) {
+                double[] timing = pointTimings.computeIfAbsent(behaviour.uid(), x -> new double[2]);
+                timing[0] += report.response.durationMs;
+                timing[1]++;
+            }
         });
     }
 
+    /** Average response time of a point without faults, or -1 if unknown */
+    public double getAverageResponseMs(FaultUid uid) {
+        double[] timing = pointTimings.get(uid);
+
+        if (timing == null) {
+            return -1;
+        }
+
+        return timing[0] / timing[1];
+    }
+
     private DoubleStream asDoubleStream(List<Float> v) {
         return v.stream().mapToDouble(i -> i);
     }
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +28,7 @@ import io.github.delanoflipse.fit.suite.strategy.components.PruneContext;
 import io.github.delanoflipse.fit.suite.strategy.components.PruneDecision;
 import io.github.delanoflipse.fit.suite.strategy.components.Reporter;
 import io.github.delanoflipse.fit.suite.strategy.store.DynamicAnalysisStore;
-import io.github.delanoflipse.fit.suite.strategy.util.Lists;
+import io.github.delanoflipse.fit.suite.strategy.util.Pair;
 import io.github.delanoflipse.fit.suite.strategy.util.Sets;
 import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
 
@@ -38,6 +39,8 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
     private final TraversalOrder pointOrder;
     private final boolean breadthFirst;
     private final Function<Set<Fault>, PruneDecision> pruneFunction;
+    private ToDoubleFunction<Set<Fault>> candidateScore = null;
+    private int lookahead = 1;
 
     // Internal structures
     private final TreeNode root = new TreeNode(List.of());
@@ -51,6 +54,16 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
 
     private final List<Integer> queueSize = new ArrayList<>();
 
+    /** Serializable snapshot of the exploration, used for checkpoints */
+    public record State(
+            List<TreeNode> toVisit,
+            List<TreeNode> visited,
+            List<TreeNode> considered,
+            List<TreeNode> pruned,
+            List<Pair<TreeNode, List<TreeNode>>> tree,
+            List<Integer> queueSize) {
+    }
+
     public DynamicExplorationGenerator(DynamicAnalysisStore store, Function<Set<Fault>, PruneDecision> pruneFunction,
             TraversalOrder traversalStrategy, boolean breadthFirst) {
         super(store);
@@ -70,6 +83,18 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         this(new DynamicAnalysisStore(modes), pruneFunction, TraversalOrder.DEPTH_FIRST_POST_ORDER);
     }
 
+    /**
+     * Instead of the next node in the queue, pick the highest scoring candidate
+     * among the next lookahead nodes. Candidates with a negative score are
+     * skipped, but kept in the queue. Generation only ends when no candidate
+     * in the queue has a non-negative score.
+     */
+    public DynamicExplorationGenerator withCandidateScore(ToDoubleFunction<Set<Fault>> score, int lookahead) {
+        this.candidateScore = score;
+        this.lookahead = Math.max(1, lookahead);
+        return this;
+    }
+
     private void updateQueueSize() {
         queueSize.add(toVisit.size());
     }
@@ -113,7 +138,7 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         for (var i = 0; i < expansion.size(); i++) {
             var point = expansion.get(i);
             for (Fault newFault : Fault.allFaults(point, getFailureModes())) {
-                TreeNode newNode = new TreeNode(Lists.plus(node.value(), newFault));
+                TreeNode newNode = node.plus(newFault);
                 boolean expanded = addNode(newNode, breadthFirst);
                 if (expanded) {
                     addToTree(node, newNode);
@@ -127,8 +152,68 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         return PruneDecision.max(store.isRedundant(nodeSet), pruneFunction.apply(nodeSet));
     }
 
+    private Faultload visit(TreeNode node, long ops) {
+        logger.info("Found a candidate after {} attempt(s)", ops);
+        updateQueueSize();
+        visited.add(node);
+        return new Faultload(node.asSet());
+    }
+
+    private Faultload generateScored() {
+        long ops = 0;
+        // All polled candidates, in order, of which lookahead are affordable
+        List<TreeNode> window = new ArrayList<>(lookahead);
+        int affordable = 0;
+        TreeNode best = null;
+        double bestScore = 0;
+
+        while (!toVisit.isEmpty() && affordable < lookahead) {
+            TreeNode node = toVisit.poll();
+            ops++;
+
+            if (pruneFunction(node) != PruneDecision.KEEP) {
+                logger.debug("Pruning node {} completely", node);
+                prunedNodes.add(node);
+                continue;
+            }
+
+            window.add(node);
+            double score = candidateScore.applyAsDouble(node.asSet());
+
+            // Keep looking past candidates that do not fit the budget
+            if (score < 0) {
+                continue;
+            }
+
+            affordable++;
+            if (best == null || score > bestScore) {
+                best = node;
+                bestScore = score;
+            }
+        }
+
+        // Put back the candidates that are not picked, in their original order
+        for (int i = window.size() - 1; i >= 0; i--) {
+            if (window.get(i) != best) {
+                toVisit.addFirst(window.get(i));
+            }
+        }
+
+        if (best == null) {
+            logger.info("Found no candidate within budget after {} attempt(s)!", ops);
+            updateQueueSize();
+            return null;
+        }
+
+        return visit(best, ops);
+    }
+
     @Override
     public Faultload generate() {
+        if (candidateScore != null) {
+            return generateScored();
+        }
+
         long ops = 0;
         int orders = 2;
 
@@ -154,10 +239,7 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
                 }
 
                 case KEEP -> {
-                    logger.info("Found a candidate after {} attempt(s)", ops);
-                    updateQueueSize();
-                    visited.add(node);
-                    return new Faultload(node.asSet());
+                    return visit(node, ops);
                 }
             }
         }
@@ -167,6 +249,61 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         return null;
     }
 
+    @Override
+    public void requeue(Faultload faultload) {
+        TreeNode node = new TreeNode(List.copyOf(faultload.faultSet()));
+        int index = visited.lastIndexOf(node);
+
+        if (index < 1) {
+            throw new IllegalArgumentException("Faultload " + faultload + " was not generated by this generator");
+        }
+
+        // Undo the visit, and make sure it is the next to be considered
+        toVisit.addFirst(visited.remove(index));
+    }
+
+    /**
+     * Capture the exploration state. The pending faultloads are generated, but
+     * their results are not known yet, so they are put back into the queue.
+     */
+    public State getState(List<Faultload> pending) {
+        List<TreeNode> visitedNodes = new ArrayList<>(visited);
+        Deque<TreeNode> queue = new ArrayDeque<>(toVisit);
+
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            TreeNode node = new TreeNode(List.copyOf(pending.get(i).faultSet()));
+            int index = visitedNodes.lastIndexOf(node);
+
+            if (index > 0) {
+                queue.addFirst(visitedNodes.remove(index));
+            }
+        }
+
+        List<Pair<TreeNode, List<TreeNode>>> tree = expansionTree.entrySet().stream()
+                .map(entry -> Pair.of(entry.getKey(), List.copyOf(entry.getValue())))
+                .toList();
+
+        return new State(List.copyOf(queue), visitedNodes, List.copyOf(consideredNodes), List.copyOf(prunedNodes),
+                tree, List.copyOf(queueSize));
+    }
+
+    public void restoreState(State state) {
+        toVisit.clear();
+        toVisit.addAll(state.toVisit());
+        visited.clear();
+        visited.addAll(state.visited());
+        consideredNodes.clear();
+        consideredNodes.addAll(state.considered());
+        prunedNodes.clear();
+        prunedNodes.addAll(state.pruned());
+        expansionTree.clear();
+        for (var entry : state.tree()) {
+            expansionTree.put(entry.first(), new ArrayList<>(entry.second()));
+        }
+        queueSize.clear();
+        queueSize.addAll(state.queueSize());
+    }
+
     @Override
     public boolean exploreFrom(Collection<Fault> startingNode) {
         TreeNode node = new TreeNode(List.copyOf(startingNode));
@@ -196,14 +333,12 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         List<FaultUid> injectedPoints = injected.stream()
                 .map(Fault::uid)
                 .toList();
-        List<FaultUid> known = context.getFaultInjectionPoints();
         List<FaultUid> toExplore = new ArrayList<>();
 
         for (var point : observed) {
             // Also included known points that are similar (e.g., persistent faults)
             // And ignore points that are already injected
-            var relatedPoints = known.stream()
-                    .filter(p -> point.matches(p))
+            var relatedPoints = store.getMatchingFaultUids(point).stream()
                     .filter(p -> !FaultUid.contains(injectedPoints, p))
                     .toList();
 
@@ -251,8 +386,7 @@ public class DynamicExplorationGenerator extends StoreBasedGenerator implements
         if (parent == null) {
             report.put("node", reportOf(node.value()));
         } else {
-            var addition = node.value().subList(parent.value().size(), node.value().size());
-            report.put("node", reportOf(addition));
+            report.put("node", reportOf(node.asSet().minus(parent.asSet())));
         }
 
         List<TreeNode> children = expansionTree.get(node);
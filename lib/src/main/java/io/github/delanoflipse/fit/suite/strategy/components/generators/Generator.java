@@ -8,4 +8,9 @@ public abstract class Generator extends FeedbackContext {
 
     public void prune() {
     };
+
+    /** Put a generated faultload back, so it is the next to be generated */
+    public void requeue(Faultload faultload) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support requeueing");
+    }
 }
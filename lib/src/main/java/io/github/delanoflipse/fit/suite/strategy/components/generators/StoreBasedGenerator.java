@@ -37,6 +37,16 @@ public abstract class StoreBasedGenerator extends Generator {
         return store.getHistoricResults();
     }
 
+    @Override
+    public long getImplicationsVersion() {
+        return store.getImplicationsVersion();
+    }
+
+    @Override
+    public long getHistoricResultsVersion() {
+        return store.getHistoricResultsVersion();
+    }
+
     @Override
     public Map<FaultUid, TraceReport> getHappyPath() {
         return store.getHappyPath();
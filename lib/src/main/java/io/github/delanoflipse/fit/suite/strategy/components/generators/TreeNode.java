@@ -1,35 +1,52 @@
 package io.github.delanoflipse.fit.suite.strategy.components.generators;
 
-import java.util.LinkedHashSet;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import io.github.delanoflipse.fit.suite.faultload.Fault;
-import io.github.delanoflipse.fit.suite.strategy.util.Sets;
+import io.github.delanoflipse.fit.suite.faultload.FaultSet;
+
+public final class TreeNode {
+    // For equality, the node is a set
+    private final FaultSet faults;
+
+    @JsonCreator
+    public TreeNode(@JsonProperty("value") Collection<Fault> value) {
+        this.faults = FaultSet.of(value);
+    }
+
+    @JsonProperty("value")
+    public List<Fault> value() {
+        return List.copyOf(faults);
+    }
+
+    public FaultSet asSet() {
+        return faults;
+    }
+
+    public TreeNode plus(Fault fault) {
+        return new TreeNode(faults.plus(fault));
+    }
 
-public record TreeNode(List<Fault> value) {
-    // For equality, the list is a set
     @Override
-    public final boolean equals(Object o) {
+    public boolean equals(Object o) {
         if (o == this) {
             return true;
         }
 
-        if (o instanceof TreeNode other) {
-            return Sets.areEqual(value, other.value);
-        }
-
-        return false;
+        return o instanceof TreeNode other && faults.equals(other.faults);
     }
 
-    public Set<Fault> asSet() {
-        return new LinkedHashSet<>(value);
+    @Override
+    public int hashCode() {
+        return faults.hashCode();
     }
 
-    // In the hashcode, we use the set representation
-    // So in a hashset, our equality check still works
     @Override
-    public final int hashCode() {
-        return asSet().hashCode();
+    public String toString() {
+        return "TreeNode[value=" + faults + "]";
     }
 }
@@ -15,10 +15,12 @@ import io.github.delanoflipse.fit.suite.strategy.components.Pruner;
 
 public class DynamicReductionPruner implements Pruner {
     private final Logger logger = LoggerFactory.getLogger(DynamicReductionPruner.class);
+    private final HistoricResultIndex historicIndex = new HistoricResultIndex();
 
     @Override
     public PruneDecision prune(Faultload faultload, PruneContext ctx) {
         Set<Behaviour> expected = ctx.getExpectedBehaviours(faultload.faultSet());
+        historicIndex.update(ctx.getHistoricResults(), ctx.getHistoricResultsVersion());
 
         // for all causes
         for (var cause : expected) {
@@ -33,13 +35,7 @@ public class DynamicReductionPruner implements Pruner {
             }
 
             // We check if there is a historic result that has all the effects
-            boolean found = ctx.getHistoricResults()
-                    .stream()
-                    .anyMatch(historicResult -> {
-                        return Behaviour.isSubsetOf(effects, historicResult.second());
-                    });
-
-            if (!found) {
+            if (!historicIndex.hasResultContaining(effects)) {
                 return PruneDecision.KEEP;
             }
 
@@ -48,4 +44,16 @@ public class DynamicReductionPruner implements Pruner {
         return PruneDecision.PRUNE;
     }
 
+    @Override
+    public long getVersion(PruneContext context) {
+        long implications = context.getImplicationsVersion();
+        long historic = context.getHistoricResultsVersion();
+
+        if (implications < 0 || historic < 0) {
+            return -1;
+        }
+
+        return implications + historic;
+    }
+
 }
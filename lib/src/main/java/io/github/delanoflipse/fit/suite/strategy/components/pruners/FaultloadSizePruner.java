@@ -26,4 +26,10 @@ public class FaultloadSizePruner implements Pruner {
         return PruneDecision.KEEP;
     }
 
+    @Override
+    public long getVersion(PruneContext context) {
+        // Decisions only depend on the faultload
+        return 0;
+    }
+
 }
@@ -0,0 +1,124 @@
+package io.github.delanoflipse.fit.suite.strategy.components.pruners;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.delanoflipse.fit.suite.faultload.Behaviour;
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
+import io.github.delanoflipse.fit.suite.strategy.store.FaultUidIndex;
+import io.github.delanoflipse.fit.suite.strategy.util.Pair;
+
+/**
+ * An inverted index from behaviours to the historic results they occur in.
+ * Whether a result contains a set of behaviours is answered by intersecting
+ * their posting lists, instead of comparing against every result.
+ *
+ * Historic results only grow, so new results are indexed incrementally.
+ */
+class HistoricResultIndex {
+    private final Map<Behaviour, BitSet> postings = new HashMap<>();
+    private final Map<FaultUid, Set<Behaviour>> behavioursByUid = new HashMap<>();
+    private final FaultUidIndex uids = new FaultUidIndex();
+    private final List<Integer> sizes = new ArrayList<>();
+
+    private List<Pair<Set<Fault>, List<Behaviour>>> source = null;
+    private long sourceVersion = -1;
+
+    /** Bring the index up to date with the historic results */
+    synchronized void update(List<Pair<Set<Fault>, List<Behaviour>>> results, long version) {
+        int indexed = sizes.size();
+
+        if (results == source && version == sourceVersion && results.size() == indexed) {
+            return;
+        }
+
+        // Every added result increases the version by one
+        boolean appended = results == source
+                && version >= 0
+                && sourceVersion >= 0
+                && version - sourceVersion == results.size() - indexed;
+
+        if (!appended) {
+            clear();
+            indexed = 0;
+        }
+
+        for (int i = indexed; i < results.size(); i++) {
+            add(i, results.get(i).second());
+        }
+
+        source = results;
+        sourceVersion = version;
+    }
+
+    private void clear() {
+        postings.clear();
+        behavioursByUid.clear();
+        uids.clear();
+        sizes.clear();
+    }
+
+    private void add(int id, List<Behaviour> behaviours) {
+        sizes.add(behaviours.size());
+
+        for (Behaviour behaviour : behaviours) {
+            postings.computeIfAbsent(behaviour, k -> new BitSet()).set(id);
+            uids.add(behaviour.uid());
+            behavioursByUid.computeIfAbsent(behaviour.uid(), k -> new LinkedHashSet<>()).add(behaviour);
+        }
+    }
+
+    /** The results with a behaviour that matches the given behaviour */
+    private BitSet getPostings(Behaviour behaviour) {
+        BitSet result = new BitSet();
+
+        for (FaultUid uid : uids.getMatching(behaviour.uid())) {
+            for (Behaviour candidate : behavioursByUid.get(uid)) {
+                if (behaviour.matches(candidate)) {
+                    result.or(postings.get(candidate));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /** Whether there is a result with a match for each of the behaviours */
+    synchronized boolean hasResultContaining(Collection<Behaviour> behaviours) {
+        BitSet candidates = null;
+
+        for (Behaviour behaviour : behaviours) {
+            BitSet matching = getPostings(behaviour);
+
+            if (candidates == null) {
+                candidates = matching;
+            } else {
+                candidates.and(matching);
+            }
+
+            if (candidates.isEmpty()) {
+                return false;
+            }
+        }
+
+        if (candidates == null) {
+            return !sizes.isEmpty();
+        }
+
+        // A result cannot contain more behaviours than it has
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (sizes.get(id) >= behaviours.size()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
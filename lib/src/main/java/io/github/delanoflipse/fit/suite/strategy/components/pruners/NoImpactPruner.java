@@ -21,6 +21,7 @@ public class NoImpactPruner implements Pruner, FeedbackHandler {
     private final Logger logger = LoggerFactory.getLogger(NoImpactPruner.class);
     private Set<Set<Fault>> impactlessFaults = new HashSet<>();
     private final boolean pruneImpactlessFaults;
+    private long version = 0;
 
     public NoImpactPruner(boolean pruneImpactlessFaults) {
         this.pruneImpactlessFaults = pruneImpactlessFaults;
@@ -78,7 +79,9 @@ public class NoImpactPruner implements Pruner, FeedbackHandler {
 
             if (pruneImpactlessFaults) {
                 logger.info("Detected impactless fault: " + fault);
-                impactlessFaults.add(Set.of(fault));
+                if (impactlessFaults.add(Set.of(fault))) {
+                    version++;
+                }
                 context.pruneFaultSubset(Set.of(fault));
             } else {
                 // TODO: check for all combinations of neighbours?
@@ -98,4 +101,9 @@ public class NoImpactPruner implements Pruner, FeedbackHandler {
         return PruneDecision.KEEP;
     }
 
+    @Override
+    public long getVersion(PruneContext context) {
+        return version;
+    }
+
 }
@@ -42,4 +42,9 @@ public class UnreachabilityPruner implements Pruner {
         return PruneDecision.KEEP;
     }
 
+    @Override
+    public long getVersion(PruneContext context) {
+        return context.getImplicationsVersion();
+    }
+
 }
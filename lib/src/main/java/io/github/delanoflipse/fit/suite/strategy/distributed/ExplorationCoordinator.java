@@ -0,0 +1,175 @@
+package io.github.delanoflipse.fit.suite.strategy.distributed;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.delanoflipse.fit.suite.strategy.FaultloadResult;
+import io.github.delanoflipse.fit.suite.strategy.StrategyRunner;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import io.github.delanoflipse.fit.suite.strategy.util.TraceAnalysis;
+
+/**
+ * Serves the faultloads of a runner to remote workers. The runner owns the
+ * store and the generator, and must use lanes so that multiple faultloads
+ * can be in flight at once.
+ *
+ * Workers pull faultloads when they are idle, so faster workers take on more
+ * of the exploration. Faultloads leased by a worker that disconnects are
+ * handed out again, to the next worker that asks.
+ *
+ * Workers are not authenticated, so the coordinator only listens on the
+ * loopback interface unless another bind address is given.
+ */
+public class ExplorationCoordinator implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ExplorationCoordinator.class);
+
+    private final StrategyRunner runner;
+    private final ServerSocket server;
+    private final AtomicLong nextId = new AtomicLong();
+    private final Map<Long, TrackedFaultload> leases = new ConcurrentHashMap<>();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private Thread acceptor = null;
+
+    public ExplorationCoordinator(StrategyRunner runner, int port) throws IOException {
+        this(runner, InetAddress.getLoopbackAddress(), port);
+    }
+
+    public ExplorationCoordinator(StrategyRunner runner, InetAddress bindAddress, int port) throws IOException {
+        if (!runner.hasLanes()) {
+            throw new IllegalArgumentException("Coordinating requires a runner with lanes!");
+        }
+
+        this.runner = runner;
+        this.server = new ServerSocket(port, 50, bindAddress);
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    public void start() {
+        acceptor = new Thread(this::acceptConnections, "fit-coordinator");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        logger.info("Coordinating exploration on {}:{}", server.getInetAddress().getHostAddress(), getPort());
+    }
+
+    private void acceptConnections() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+
+                Thread handler = new Thread(() -> handle(socket), "fit-coordinator-" + socket.getPort());
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    logger.warn("Failed to accept worker connection", e);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        Set<Long> owned = new HashSet<>();
+        logger.info("Worker {} connected", socket.getRemoteSocketAddress());
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                BufferedWriter writer = new BufferedWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            Message message;
+
+            while ((message = Message.read(reader)) != null) {
+                switch (message.type()) {
+                    case LEASE -> {
+                        List<Message.Lease> leased = new ArrayList<>();
+                        int max = message.max() == null ? 1 : message.max();
+
+                        for (TrackedFaultload faultload : runner.nextFaultloads(max)) {
+                            long id = nextId.incrementAndGet();
+                            leases.put(id, faultload);
+                            owned.add(id);
+                            leased.add(new Message.Lease(id, faultload.getFaultload().faultSet()));
+                        }
+
+                        Message.leased(leased).write(writer);
+                    }
+
+                    case RESULT -> {
+                        TrackedFaultload faultload = release(owned, message.id());
+                        if (faultload != null) {
+                            TraceAnalysis trace = new TraceAnalysis(message.reports());
+                            runner.handleResult(new FaultloadResult(faultload, trace, message.passed()));
+                        }
+                    }
+
+                    case DISCARD -> {
+                        TrackedFaultload faultload = release(owned, message.id());
+                        if (faultload != null) {
+                            runner.discardResult(faultload);
+                        }
+                    }
+
+                    default -> logger.warn("Unexpected message from worker: {}", message.type());
+                }
+            }
+        } catch (IOException e) {
+            if (socket.isClosed() || server.isClosed()) {
+                // Closed on shutdown
+                logger.debug("Connection to worker {} closed", socket.getRemoteSocketAddress());
+            } else {
+                logger.warn("Lost connection to worker {}", socket.getRemoteSocketAddress(), e);
+            }
+        } finally {
+            connections.remove(socket);
+
+            for (Long id : owned) {
+                TrackedFaultload faultload = leases.remove(id);
+                if (faultload != null) {
+                    logger.info("Re-leasing faultload {} of disconnected worker", faultload.readableString());
+                    runner.retryFaultload(faultload);
+                }
+            }
+
+            logger.info("Worker {} disconnected", socket.getRemoteSocketAddress());
+        }
+    }
+
+    private TrackedFaultload release(Set<Long> owned, Long id) {
+        if (id == null || !owned.remove(id)) {
+            logger.warn("Worker reported on unknown lease {}", id);
+            return null;
+        }
+
+        return leases.remove(id);
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+
+        for (Socket socket : connections) {
+            socket.close();
+        }
+    }
+}
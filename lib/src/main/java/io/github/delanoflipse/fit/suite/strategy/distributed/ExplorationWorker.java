@@ -0,0 +1,70 @@
+package io.github.delanoflipse.fit.suite.strategy.distributed;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import io.github.delanoflipse.fit.suite.trace.tree.TraceReport;
+
+/**
+ * Connection of a worker to an exploration coordinator. The worker leases
+ * faultloads, runs them against its own application, and sends back the
+ * results.
+ */
+public class ExplorationWorker implements AutoCloseable {
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final BufferedWriter writer;
+
+    public ExplorationWorker(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    /** Parse an address of the form host:port */
+    public static ExplorationWorker connect(String address) throws IOException {
+        int separator = address.lastIndexOf(':');
+
+        if (separator < 0) {
+            throw new IllegalArgumentException("Coordinator address must be of the form host:port: " + address);
+        }
+
+        return new ExplorationWorker(address.substring(0, separator),
+                Integer.parseInt(address.substring(separator + 1)));
+    }
+
+    /**
+     * Lease up to max faultloads. Blocks until at least one is available, an
+     * empty list means the exploration is done.
+     */
+    public synchronized List<Message.Lease> lease(int max) throws IOException {
+        Message.lease(max).write(writer);
+        Message response = Message.read(reader);
+
+        if (response == null || response.type() != Message.Type.LEASED) {
+            throw new IOException("Unexpected response from coordinator: " + response);
+        }
+
+        return response.leases() == null ? List.of() : response.leases();
+    }
+
+    public synchronized void sendResult(long id, List<TraceReport> reports, boolean passed) throws IOException {
+        Message.result(id, reports, passed).write(writer);
+    }
+
+    public synchronized void discard(long id) throws IOException {
+        Message.discard(id).write(writer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
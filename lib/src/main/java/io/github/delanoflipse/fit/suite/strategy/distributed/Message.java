@@ -0,0 +1,77 @@
+package io.github.delanoflipse.fit.suite.strategy.distributed;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.trace.tree.TraceReport;
+
+/**
+ * Messages exchanged between a coordinator and its workers, sent as one JSON
+ * object per line.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Message(
+        Type type,
+        Integer max,
+        Long id,
+        List<Lease> leases,
+        List<TraceReport> reports,
+        Boolean passed) {
+
+    public enum Type {
+        // worker -> coordinator
+        LEASE,
+        RESULT,
+        DISCARD,
+        // coordinator -> worker, no leases means the exploration is done
+        LEASED
+    }
+
+    /** A faultload handed out to a worker */
+    public record Lease(long id, Set<Fault> faults) {
+    }
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public static Message lease(int max) {
+        return new Message(Type.LEASE, max, null, null, null, null);
+    }
+
+    public static Message leased(List<Lease> leases) {
+        return new Message(Type.LEASED, null, null, leases, null, null);
+    }
+
+    public static Message result(long id, List<TraceReport> reports, boolean passed) {
+        return new Message(Type.RESULT, null, id, null, reports, passed);
+    }
+
+    public static Message discard(long id) {
+        return new Message(Type.DISCARD, null, id, null, null, null);
+    }
+
+    public void write(Writer writer) throws IOException {
+        writer.write(mapper.writeValueAsString(this));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /** Read the next message, or null if the connection is closed */
+    public static Message read(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+
+        return line == null ? null : mapper.readValue(line, Message.class);
+    }
+}
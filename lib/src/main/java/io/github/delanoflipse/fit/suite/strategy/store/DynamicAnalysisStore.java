@@ -2,8 +2,10 @@ package io.github.delanoflipse.fit.suite.strategy.store;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -14,12 +16,12 @@ import org.slf4j.LoggerFactory;
 
 import io.github.delanoflipse.fit.suite.faultload.Behaviour;
 import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.FaultSet;
 import io.github.delanoflipse.fit.suite.faultload.FaultUid;
 import io.github.delanoflipse.fit.suite.faultload.Faultload;
 import io.github.delanoflipse.fit.suite.faultload.modes.FailureMode;
 import io.github.delanoflipse.fit.suite.strategy.components.PruneDecision;
 import io.github.delanoflipse.fit.suite.strategy.util.Pair;
-import io.github.delanoflipse.fit.suite.strategy.util.Sets;
 import io.github.delanoflipse.fit.suite.strategy.util.SpaceEstimate;
 import io.github.delanoflipse.fit.suite.trace.tree.TraceReport;
 import io.github.delanoflipse.fit.suite.util.NoOpLogger;
@@ -28,15 +30,35 @@ public class DynamicAnalysisStore {
     private final Logger logger;
     private final List<FailureMode> modes;
     private final List<FaultUid> points = new ArrayList<>();
+    private final FaultUidIndex pointIndex = new FaultUidIndex();
 
     private final ImplicationsStore implicationsStore = new ImplicationsStore();
+    // Long-lived, so unfolded subtrees are reused between queries
+    private final ImplicationsModel implicationsModel = new ImplicationsModel(implicationsStore);
+
+    // Expected behaviour per faultload, for the current version of the implications
+    private static final int MAX_CACHED_EXPECTATIONS = 10_000;
+    private final Map<Set<Fault>, Set<Behaviour>> expectedBehaviours = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Set<Fault>, Set<Behaviour>> eldest) {
+            return size() > MAX_CACHED_EXPECTATIONS;
+        }
+    };
+    private long expectedBehavioursVersion = -1;
 
     private final Map<FaultUid, TraceReport> happyPath = new LinkedHashMap<>();
-    private final List<Set<Fault>> redundantFaultloads = new ArrayList<>();
-    private final List<Set<FaultUid>> redundantUidSubsets = new ArrayList<>();
-    private final List<Set<Fault>> redundantFaultSubsets = new ArrayList<>();
+    private final Set<Set<Fault>> redundantFaultloads = new LinkedHashSet<>();
+    // Minimal redundant subsets, indexed for subset queries
+    private final Set<Set<FaultUid>> redundantUidSubsets = new LinkedHashSet<>();
+    private final Set<Set<Fault>> redundantFaultSubsets = new LinkedHashSet<>();
+    private SetTrie<FaultUid> uidSubsetIndex = new SetTrie<>();
+    private SetTrie<Fault> faultSubsetIndex = new SetTrie<>();
     private final List<Pair<Set<Fault>, List<Behaviour>>> historicResults = new ArrayList<>();
 
+    // Increase on every change, to detect stale derived information
+    private long version = 0;
+    private long historicResultsVersion = 0;
+
     public DynamicAnalysisStore(List<FailureMode> modes, boolean quiet) {
         this.modes = modes;
         if (quiet) {
@@ -50,6 +72,35 @@ public class DynamicAnalysisStore {
         this(modes, false);
     }
 
+    /** Forget everything learned so far */
+    public void clear() {
+        version++;
+        historicResultsVersion++;
+        points.clear();
+        pointIndex.clear();
+        implicationsStore.clear();
+        happyPath.clear();
+        redundantFaultloads.clear();
+        redundantUidSubsets.clear();
+        redundantFaultSubsets.clear();
+        uidSubsetIndex = new SetTrie<>();
+        faultSubsetIndex = new SetTrie<>();
+        historicResults.clear();
+    }
+
+    /** Increases on every change to the store, including the implications */
+    public long getVersion() {
+        return version + implicationsStore.getVersion();
+    }
+
+    public long getImplicationsVersion() {
+        return implicationsStore.getVersion();
+    }
+
+    public long getHistoricResultsVersion() {
+        return historicResultsVersion;
+    }
+
     public List<FailureMode> getModes() {
         return modes;
     }
@@ -58,18 +109,26 @@ public class DynamicAnalysisStore {
         return points;
     }
 
-    public List<Set<Fault>> getRedundantFaultloads() {
+    public Collection<Set<Fault>> getRedundantFaultloads() {
         return this.redundantFaultloads;
     }
 
-    public List<Set<FaultUid>> getRedundantUidSubsets() {
+    public Collection<Set<FaultUid>> getRedundantUidSubsets() {
         return this.redundantUidSubsets;
     }
 
-    public List<Set<Fault>> getRedundantFaultSubsets() {
+    public Collection<Set<Fault>> getRedundantFaultSubsets() {
         return this.redundantFaultSubsets;
     }
 
+    public ImplicationsStore getImplications() {
+        return implicationsStore;
+    }
+
+    public ImplicationsModel getImplicationsModel() {
+        return implicationsModel;
+    }
+
     public Map<String, Object> getImplicationsReport() {
         return implicationsStore.getReport(this);
     }
@@ -84,6 +143,7 @@ public class DynamicAnalysisStore {
 
     public void addHappyPath(FaultUid uid, TraceReport report) {
         happyPath.put(uid, report);
+        version++;
     }
 
     public Set<FaultUid> getNonConditionalFaultUids() {
@@ -93,20 +153,28 @@ public class DynamicAnalysisStore {
     }
 
     public boolean hasFaultUid(FaultUid fid) {
-        return points.contains(fid);
+        return pointIndex.contains(fid);
+    }
+
+    /** All known points that match the given point, in order of discovery */
+    public List<FaultUid> getMatchingFaultUids(FaultUid fid) {
+        return pointIndex.getMatching(fid);
     }
 
     public boolean addFaultUid(FaultUid fid) {
-        if (hasFaultUid(fid)) {
+        if (!pointIndex.add(fid)) {
             return false;
         }
 
         points.add(fid);
+        version++;
         return true;
     }
 
     public void addHistoricResult(Set<Fault> faultload, List<Behaviour> behaviours) {
         this.historicResults.add(new Pair<>(faultload, behaviours));
+        historicResultsVersion++;
+        version++;
     }
 
     public List<Pair<Set<Fault>, List<Behaviour>>> getHistoricResults() {
@@ -149,13 +217,7 @@ public class DynamicAnalysisStore {
     }
 
     public boolean hasFaultUidSubset(Set<FaultUid> set) {
-        for (var redundant : this.redundantUidSubsets) {
-            if (Sets.isSubsetOf(redundant, set)) {
-                return true;
-            }
-        }
-
-        return false;
+        return uidSubsetIndex.hasSubsetOf(set);
     }
 
     public boolean pruneFaultUidSubset(Set<FaultUid> subset) {
@@ -167,20 +229,20 @@ public class DynamicAnalysisStore {
         }
 
         // filter out all supersets of this subset
-        this.redundantUidSubsets.removeIf(s -> Sets.isSubsetOf(subset, s));
+        for (var superset : uidSubsetIndex.getSupersetsOf(subset)) {
+            uidSubsetIndex.remove(superset);
+            this.redundantUidSubsets.remove(superset);
+        }
+
         // This is a novel redundant subset, lets add it!
         this.redundantUidSubsets.add(subset);
+        uidSubsetIndex.add(subset);
+        version++;
         return true;
     }
 
     public boolean hasFaultSubset(Set<Fault> given) {
-        for (var redundant : this.redundantFaultSubsets) {
-            if (Sets.isSubsetOf(redundant, given)) {
-                return true;
-            }
-        }
-
-        return false;
+        return faultSubsetIndex.hasSubsetOf(given);
     }
 
     private boolean isValidSubset(Set<Fault> subset) {
@@ -203,6 +265,7 @@ public class DynamicAnalysisStore {
             throw new IllegalArgumentException("Fault subset must have at most one fault per faultuid");
         }
 
+        subset = FaultSet.of(subset);
         if (hasFaultSubset(subset)) {
             return false;
         }
@@ -211,9 +274,15 @@ public class DynamicAnalysisStore {
         // we can ignore the faultuid
 
         // filter out all supersets of this subset
-        this.redundantFaultSubsets.removeIf(s -> Sets.isSubsetOf(subset, s));
+        for (var superset : faultSubsetIndex.getSupersetsOf(subset)) {
+            faultSubsetIndex.remove(superset);
+            this.redundantFaultSubsets.remove(superset);
+        }
+
         // and add this subset
         this.redundantFaultSubsets.add(subset);
+        faultSubsetIndex.add(subset);
+        version++;
         return true;
     }
 
@@ -224,11 +293,13 @@ public class DynamicAnalysisStore {
     public boolean pruneFaultload(Set<Fault> faultload) {
         // If the faultload is already in the list of redundant faultloads
         // Then we can ignore this faultload
+        faultload = FaultSet.of(faultload);
         if (hasFaultload(faultload)) {
             return false;
         }
 
         this.redundantFaultloads.add(faultload);
+        version++;
         return true;
     }
 
@@ -237,15 +308,42 @@ public class DynamicAnalysisStore {
     }
 
     public boolean hasFaultload(Set<Fault> faultload) {
-        return this.redundantFaultloads.contains(faultload);
+        return this.redundantFaultloads.contains(FaultSet.of(faultload));
+    }
+
+    private Set<Behaviour> getCachedExpectation(FaultSet faults) {
+        if (expectedBehavioursVersion != implicationsStore.getVersion()) {
+            expectedBehaviours.clear();
+            expectedBehavioursVersion = implicationsStore.getVersion();
+        }
+
+        return expectedBehaviours.get(faults);
     }
 
-    public Set<Behaviour> getExpectedBehaviour(Collection<Fault> faults) {
-        return new ImplicationsModel(implicationsStore).getBehaviours(faults);
+    private Set<Behaviour> computeExpectation(FaultSet faults) {
+        Set<Behaviour> expected = Collections.unmodifiableSet(implicationsModel.getBehaviours(faults));
+        expectedBehaviours.put(faults, expected);
+        return expected;
+    }
+
+    /**
+     * The expected behaviour of a faultload. Subtrees that are unaffected by
+     * the faults are memoized in the model, so a faultload that extends an
+     * earlier one (e.g. its parent) only unfolds the ancestors of the new faults.
+     */
+    public synchronized Set<Behaviour> getExpectedBehaviour(Collection<Fault> faults) {
+        FaultSet faultSet = FaultSet.of(faults);
+        Set<Behaviour> cached = getCachedExpectation(faultSet);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        return computeExpectation(faultSet);
     }
 
     public Set<FaultUid> getExpectedPoints(Collection<Fault> faults) {
-        return new ImplicationsModel(implicationsStore).getBehaviours(faults)
+        return getExpectedBehaviour(faults)
                 .stream()
                 .map(Behaviour::uid)
                 .collect(Collectors.toSet());
@@ -256,6 +354,8 @@ public class DynamicAnalysisStore {
             return PruneDecision.PRUNE;
         }
 
+        faultload = FaultSet.of(faultload);
+
         // Prune on subsets
         if (hasFaultSubset(faultload)) {
             logger.debug("Pruning node {} due pruned subset", faultload);
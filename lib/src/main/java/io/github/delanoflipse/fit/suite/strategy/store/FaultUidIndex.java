@@ -0,0 +1,142 @@
+package io.github.delanoflipse.fit.suite.strategy.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.delanoflipse.fit.suite.faultload.FaultInjectionPoint;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
+
+/**
+ * A discrimination tree over fault uids, to find all stored uids that match
+ * a (possibly wildcarded) uid without comparing against every stored uid.
+ *
+ * Each level of the tree discriminates on a single field of a point in the
+ * stack: destination, signature, payload, call stack and count. Wildcards are
+ * kept in a separate branch, so a concrete field only follows its own branch
+ * and the wildcard branch, while a wildcard field follows all branches.
+ */
+public class FaultUidIndex {
+    private static final int FIELDS = 5;
+    private static final Object WILDCARD = new Object();
+
+    // One tree per stack depth, as uids of different depths never match
+    private final Map<Integer, Node> roots = new HashMap<>();
+    private final Map<FaultUid, Integer> order = new HashMap<>();
+
+    private static class Node {
+        private final Map<Object, Node> children = new HashMap<>();
+        private Node wildcard = null;
+        private final List<FaultUid> values = new ArrayList<>();
+
+        private Node child(Object key) {
+            if (key == WILDCARD) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+
+                return wildcard;
+            }
+
+            return children.computeIfAbsent(key, k -> new Node());
+        }
+    }
+
+    private static Object keyOf(String value) {
+        return value == null || value.equals("*") ? WILDCARD : value;
+    }
+
+    private static Object keyOf(FaultUid uid, int level) {
+        FaultInjectionPoint point = uid.stack().get(level / FIELDS);
+
+        return switch (level % FIELDS) {
+            case 0 -> keyOf(point.destination());
+            case 1 -> keyOf(point.signature());
+            case 2 -> keyOf(point.payload());
+            case 3 -> point.callStack() == null ? WILDCARD : point.callStack();
+            default -> point.count() < 0 ? WILDCARD : point.count();
+        };
+    }
+
+    /** Add a uid to the index, returns false if it was already present */
+    public boolean add(FaultUid uid) {
+        if (order.containsKey(uid)) {
+            return false;
+        }
+
+        order.put(uid, order.size());
+        int depth = uid.stack().size();
+        Node node = roots.computeIfAbsent(depth, k -> new Node());
+
+        for (int level = 0; level < depth * FIELDS; level++) {
+            node = node.child(keyOf(uid, level));
+        }
+
+        node.values.add(uid);
+        return true;
+    }
+
+    public boolean contains(FaultUid uid) {
+        return order.containsKey(uid);
+    }
+
+    public int size() {
+        return order.size();
+    }
+
+    public void clear() {
+        roots.clear();
+        order.clear();
+    }
+
+    /** All stored uids that match the given uid, in order of insertion */
+    public List<FaultUid> getMatching(FaultUid uid) {
+        List<FaultUid> matches = new ArrayList<>();
+
+        if (uid == null || uid.stack() == null) {
+            return matches;
+        }
+
+        int depth = uid.stack().size();
+        Node root = roots.get(depth);
+
+        if (root != null) {
+            collect(root, uid, 0, depth * FIELDS, matches);
+        }
+
+        matches.sort(Comparator.comparing(order::get));
+        return matches;
+    }
+
+    /** Whether any stored uid matches the given uid */
+    public boolean hasMatch(FaultUid uid) {
+        return !getMatching(uid).isEmpty();
+    }
+
+    private void collect(Node node, FaultUid uid, int level, int levels, List<FaultUid> matches) {
+        if (level == levels) {
+            matches.addAll(node.values);
+            return;
+        }
+
+        Object key = keyOf(uid, level);
+
+        if (key == WILDCARD) {
+            for (Node child : node.children.values()) {
+                collect(child, uid, level + 1, levels, matches);
+            }
+        } else {
+            Node child = node.children.get(key);
+
+            if (child != null) {
+                collect(child, uid, level + 1, levels, matches);
+            }
+        }
+
+        if (node.wildcard != null) {
+            collect(node.wildcard, uid, level + 1, levels, matches);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package io.github.delanoflipse.fit.suite.strategy.store;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -13,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import io.github.delanoflipse.fit.suite.faultload.Behaviour;
 import io.github.delanoflipse.fit.suite.faultload.Fault;
 import io.github.delanoflipse.fit.suite.faultload.FaultInjectionPoint;
+import io.github.delanoflipse.fit.suite.faultload.FaultSet;
 import io.github.delanoflipse.fit.suite.faultload.FaultUid;
 import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore.DownstreamRequestEffect;
 import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore.Substitution;
@@ -27,10 +31,42 @@ public class ImplicationsModel {
     private static final Logger logger = LoggerFactory.getLogger(ImplicationsModel.class);
     private final boolean matchWeak = true;
 
+    // Unfolded subtrees, keyed by cause and the pertubations within its subtree.
+    // Only valid for a single version of the store.
+    private static final int MAX_MEMO_SIZE = 50_000;
+    private final Map<Pair<FaultUid, FaultSet>, Pair<Behaviour, Set<Behaviour>>> memo = new LinkedHashMap<>(
+            16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Pair<FaultUid, FaultSet>, Pair<Behaviour, Set<Behaviour>>> e) {
+            return size() > MAX_MEMO_SIZE;
+        }
+    };
+    private long memoVersion = -1;
+
+    // Evaluation order of substitutions per origin, with the substitution version
+    private final Map<FaultUid, Pair<Long, List<FaultUid>>> evaluationOrders = new HashMap<>();
+    private long memoHits = 0;
+    private long memoMisses = 0;
+
     public ImplicationsModel(ImplicationsStore store) {
         this.store = store;
     }
 
+    private void invalidateIfStale() {
+        if (memoVersion != store.getVersion()) {
+            memo.clear();
+            memoVersion = store.getVersion();
+        }
+    }
+
+    public synchronized long getMemoHits() {
+        return memoHits;
+    }
+
+    public synchronized long getMemoMisses() {
+        return memoMisses;
+    }
+
     private boolean matchesLocally(Behaviour x, Behaviour y) {
         return matchesLocally(x.uid(), y.uid()) && x.mode().equals(y.mode());
     }
@@ -69,7 +105,8 @@ public class ImplicationsModel {
         return rootCause.asChild(child.getPoint());
     }
 
-    public Set<Behaviour> getBehaviours(Collection<Fault> pertubations) {
+    public synchronized Set<Behaviour> getBehaviours(Collection<Fault> pertubations) {
+        invalidateIfStale();
         var root = store.getRootCause();
 
         if (root == null) {
@@ -80,13 +117,29 @@ public class ImplicationsModel {
         return Sets.plus(pair.second(), pair.first());
     }
 
-    public Set<Behaviour> getBehaviours(FaultUid cause, Collection<Fault> pertubations) {
+    public synchronized Set<Behaviour> getBehaviours(FaultUid cause, Collection<Fault> pertubations) {
+        invalidateIfStale();
         var pair = unfold(cause, pertubations);
         return Sets.plus(pair.second(), pair.first());
     }
 
     private List<FaultUid> evaluationOrder(FaultUid rootCause, List<Substitution> exclusionsToApply,
             List<Substitution> inclusionsToApply) {
+        // Only changes to the substitutions of this origin change the order
+        long version = store.getSubstitutionVersion(rootCause.getPoint());
+        var cached = evaluationOrders.get(rootCause);
+
+        if (cached != null && cached.first() == version) {
+            return cached.second();
+        }
+
+        List<FaultUid> order = computeEvaluationOrder(rootCause, exclusionsToApply, inclusionsToApply);
+        evaluationOrders.put(rootCause, Pair.of(version, order));
+        return order;
+    }
+
+    private List<FaultUid> computeEvaluationOrder(FaultUid rootCause, List<Substitution> exclusionsToApply,
+            List<Substitution> inclusionsToApply) {
         // Build a lattice of substition relations wrt points
         TransativeRelation<FaultInjectionPoint> dependsOn = new TransativeRelation<>();
         List<Substitution> allSubs = Lists.union(exclusionsToApply, inclusionsToApply);
@@ -94,9 +147,7 @@ public class ImplicationsModel {
         boolean circularDetected = false;
         for (var s : allSubs) {
             for (var cause : s.causes()) {
-                try {
-                    dependsOn.addRelation(cause.uid().getPoint(), s.effect().getPoint());
-                } catch (Exception e) {
+                if (!dependsOn.tryAddRelation(cause.uid().getPoint(), s.effect().getPoint())) {
                     logger.info("Circular dependency in {} given {}", cause.uid().getPoint(), s.effect().getPoint());
                     circularDetected = true;
                 }
@@ -191,7 +242,10 @@ public class ImplicationsModel {
 
     private List<FaultUid> getDownstream(FaultUid cause) {
         // all weakly matching downstream requests
-        DownstreamRequestEffect downstream = store.findDownstream(x -> matchesLocally(x.cause(), cause));
+        DownstreamRequestEffect downstream = store.getDownstreamByPoint(cause.getPoint()).stream()
+                .filter(x -> matchesLocally(x.cause(), cause))
+                .findFirst()
+                .orElse(null);
 
         if (downstream == null) {
             return null;
@@ -204,8 +258,10 @@ public class ImplicationsModel {
     }
 
     private Behaviour getUpstream(FaultUid cause, Set<Behaviour> upstreams) {
-        UpstreamResponseEffect upstream = store.findUpstream(x -> matchesLocally(x.effect().uid(), cause) &&
-                Behaviour.isSubsetOf(x.causes(), upstreams));
+        UpstreamResponseEffect upstream = store.getUpstreamByPoint(cause.getPoint()).stream()
+                .filter(x -> matchesLocally(x.effect().uid(), cause) && Behaviour.isSubsetOf(x.causes(), upstreams))
+                .findFirst()
+                .orElse(null);
         if (upstream == null) {
             return null;
         }
@@ -217,15 +273,61 @@ public class ImplicationsModel {
 
     private List<Substitution> getRelatedInclusions(FaultUid rootCause) {
         // all inclusions match weakly with the root cause
-        return store.findInclusions(x -> matchesLocally(x.effect().getParent(), rootCause));
+        return store.getInclusionsByParentPoint(rootCause.getPoint()).stream()
+                .filter(x -> matchesLocally(x.effect().getParent(), rootCause))
+                .toList();
     }
 
     private List<Substitution> getRelatedExclusions(FaultUid root) {
         // all exclusions match weakly with the root cause
-        return store.findExclusions(x -> matchesLocally(x.effect().getParent(), root));
+        return store.getExclusionsByParentPoint(root.getPoint()).stream()
+                .filter(x -> matchesLocally(x.effect().getParent(), root))
+                .toList();
+    }
+
+    /** Whether the uid is the cause, or one of its (transative) downstream requests */
+    private boolean isInSubtree(FaultUid uid, FaultUid cause) {
+        var causeStack = cause.stack();
+        var stack = uid.stack();
+
+        if (stack.size() < causeStack.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < causeStack.size(); i++) {
+            if (!stack.get(i).matches(causeStack.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     private Pair<Behaviour, Set<Behaviour>> unfold(FaultUid cause, Collection<Fault> pertubations) {
+        // Only pertubations within the subtree of the cause affect its unfolding
+        List<Fault> relevant = new ArrayList<>();
+        for (var fault : pertubations) {
+            if (isInSubtree(fault.uid(), cause)) {
+                relevant.add(fault);
+            }
+        }
+
+        // A set, so the order of the pertubations does not matter
+        FaultSet relevantSet = FaultSet.of(relevant);
+        var key = Pair.of(cause, relevantSet);
+        var cached = memo.get(key);
+        if (cached != null) {
+            memoHits++;
+            return cached;
+        }
+
+        memoMisses++;
+        var unfolded = computeUnfold(cause, relevantSet);
+        memo.put(key, unfolded);
+        return unfolded;
+    }
+
+    private Pair<Behaviour, Set<Behaviour>> computeUnfold(FaultUid cause, Collection<Fault> pertubations) {
         // -- Stage 1 - Unfold --
         // 1.a. Directly pertubated, prevents any downstream effects
         Behaviour pertubation = getMatchingPertubation(cause, pertubations);
@@ -265,11 +367,14 @@ public class ImplicationsModel {
         // 3.b check for upstream effects
         Behaviour upstream = getUpstream(cause, directDownstreams);
 
+        // Shared between lookups, so it must not change
+        Set<Behaviour> downstreams = Collections.unmodifiableSet(transativeDownstreams);
+
         if (upstream != null) {
-            return Pair.of(upstream, transativeDownstreams);
+            return Pair.of(upstream, downstreams);
         }
 
         // assume the happy path behaviour
-        return Pair.of(causeBehaviour, transativeDownstreams);
+        return Pair.of(causeBehaviour, downstreams);
     }
 }
@@ -2,6 +2,8 @@ package io.github.delanoflipse.fit.suite.strategy.store;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,23 @@ public class ImplicationsStore {
   private final List<Substitution> exclusions = new ArrayList<>();
   private final List<UpstreamResponseEffect> upstreamResponses = new ArrayList<>();
 
+  // Indexed by the point of the cause, or the parent point of the effect
+  private final PointBuckets<DownstreamRequestEffect> downstreamByCause = new PointBuckets<>(
+      x -> x.cause().getPoint());
+  private final PointBuckets<UpstreamResponseEffect> upstreamByEffect = new PointBuckets<>(
+      x -> x.effect().uid().getPoint());
+  private final PointBuckets<Substitution> inclusionsByParent = substitutionBuckets();
+  private final PointBuckets<Substitution> exclusionsByParent = substitutionBuckets();
+
+  // Increases on every change
+  private long version = 0;
+
+  // Increase on changes to the substitutions, per bucket of the parent point
+  // of the effect. Never reset, so a version is never reused for the same point.
+  private final Map<PointBuckets.Key, Long> substitutionVersions = new HashMap<>();
+  private long wildcardSubstitutionVersion = 0;
+  private long totalSubstitutionVersion = 0;
+
   public record DownstreamRequestEffect(FaultUid cause, Set<FaultUid> effects) {
   }
 
@@ -37,6 +56,37 @@ public class ImplicationsStore {
   public record Substitution(Set<Behaviour> causes, FaultUid effect) {
   }
 
+  private static FaultInjectionPoint parentPoint(FaultUid uid) {
+    FaultUid parent = uid.getParent();
+    return parent == null ? null : parent.getPoint();
+  }
+
+  private static PointBuckets<Substitution> substitutionBuckets() {
+    // Substitutions with the fewest causes first
+    return new PointBuckets<>(x -> parentPoint(x.effect()),
+        Comparator.comparingInt((Substitution x) -> x.causes().size()));
+  }
+
+  private PointBuckets<Substitution> bucketsOf(List<Substitution> target) {
+    return target == inclusions ? inclusionsByParent : exclusionsByParent;
+  }
+
+  /** Forget all known relations */
+  public void clear() {
+    version++;
+    implicationDependencies.clear();
+    downstreamRequests.clear();
+    inclusions.clear();
+    exclusions.clear();
+    upstreamResponses.clear();
+    downstreamByCause.clear();
+    upstreamByEffect.clear();
+    inclusionsByParent.clear();
+    exclusionsByParent.clear();
+    wildcardSubstitutionVersion++;
+    totalSubstitutionVersion++;
+  }
+
   // --- Normalisation ---
   public void assertNormalForm(FaultUid cause) {
     if (!cause.isNormalForm()) {
@@ -72,7 +122,8 @@ public class ImplicationsStore {
 
   // --- Downstream Requests ---
   public boolean hasDownstreamRequests(FaultUid cause) {
-    return downstreamRequests.stream().anyMatch(x -> x.cause.matches(cause));
+    return downstreamByCause.get(cause.getPoint()).stream()
+        .anyMatch(x -> x.cause.matches(cause));
   }
 
   public boolean addDownstreamRequests(FaultUid cause, Collection<FaultUid> effects) {
@@ -90,13 +141,16 @@ public class ImplicationsStore {
     var normalisedEffects = effects.stream()
         .collect(Collectors.toSet());
 
-    downstreamRequests.add(new DownstreamRequestEffect(cause, normalisedEffects));
+    var downstream = new DownstreamRequestEffect(cause, normalisedEffects);
+    downstreamRequests.add(downstream);
+    downstreamByCause.add(downstream);
+    version++;
     return true;
   }
 
   // --- Upstream Responses ---
   public boolean hasUpstreamResponse(Set<Behaviour> causes, Behaviour effect) {
-    return upstreamResponses.stream()
+    return upstreamByEffect.get(effect.uid().getPoint()).stream()
         .anyMatch(x -> x.effect.matches(effect) && Behaviour.isSubsetOf(x.causes, causes));
   }
 
@@ -115,13 +169,16 @@ public class ImplicationsStore {
       return false;
     }
 
-    upstreamResponses.add(new UpstreamResponseEffect(normalizedCauses, effect));
+    var upstream = new UpstreamResponseEffect(normalizedCauses, effect);
+    upstreamResponses.add(upstream);
+    upstreamByEffect.add(upstream);
+    version++;
     return true;
   }
 
   // --- Inclusions and Exclusions ---
   private boolean hasEffect(Set<Behaviour> causes, FaultUid effect, List<Substitution> target) {
-    return target.stream()
+    return bucketsOf(target).get(parentPoint(effect)).stream()
         .anyMatch(x -> x.effect.matches(effect) && Behaviour.isSubsetOf(x.causes, causes));
   }
 
@@ -151,10 +208,23 @@ public class ImplicationsStore {
     }
 
     // Remove supersets
-    target.removeIf(x -> x.effect.matches(effect) && Behaviour.isSubsetOf(normalisedCauses, x.causes));
+    Predicate<Substitution> isSuperset = x -> x.effect.matches(effect)
+        && Behaviour.isSubsetOf(normalisedCauses, x.causes);
+    List<Substitution> supersets = bucketsOf(target).get(parentPoint(effect)).stream()
+        .filter(isSuperset)
+        .toList();
+
+    if (!supersets.isEmpty()) {
+      bucketsOf(target).removeIf(parentPoint(effect), isSuperset);
+      target.removeAll(supersets);
+    }
 
     // Add myself
-    target.add(new Substitution(normalisedCauses, effect));
+    var substitution = new Substitution(normalisedCauses, effect);
+    target.add(substitution);
+    bucketsOf(target).add(substitution);
+    bumpSubstitutionVersion(parentPoint(effect));
+    version++;
     return true;
   }
 
@@ -167,7 +237,7 @@ public class ImplicationsStore {
   }
 
   public boolean isInclusionEffect(FaultUid point) {
-    for (var inclusion : inclusions) {
+    for (var inclusion : inclusionsByParent.get(parentPoint(point))) {
       if (inclusion.effect.matches(point)) {
         return true;
       }
@@ -214,6 +284,67 @@ public class ImplicationsStore {
         .toList();
   }
 
+  // --- Indexed lookups, by (weakly) matching point ---
+
+  /** Downstream requests of causes whose point matches, in order of discovery */
+  public List<DownstreamRequestEffect> getDownstreamByPoint(FaultInjectionPoint point) {
+    return downstreamByCause.get(point);
+  }
+
+  /** Upstream responses of effects whose point matches, in order of discovery */
+  public List<UpstreamResponseEffect> getUpstreamByPoint(FaultInjectionPoint point) {
+    return upstreamByEffect.get(point);
+  }
+
+  /** Inclusions with a matching parent point, the fewest causes first */
+  public List<Substitution> getInclusionsByParentPoint(FaultInjectionPoint point) {
+    return inclusionsByParent.get(point);
+  }
+
+  /** Exclusions with a matching parent point, the fewest causes first */
+  public List<Substitution> getExclusionsByParentPoint(FaultInjectionPoint point) {
+    return exclusionsByParent.get(point);
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  private void bumpSubstitutionVersion(FaultInjectionPoint parentPoint) {
+    if (PointBuckets.isConcrete(parentPoint)) {
+      substitutionVersions.merge(PointBuckets.bucketKey(parentPoint), 1L, Long::sum);
+    } else {
+      wildcardSubstitutionVersion++;
+    }
+
+    totalSubstitutionVersion++;
+  }
+
+  /** Increases when the substitutions that apply to the given origin point change */
+  public long getSubstitutionVersion(FaultInjectionPoint origin) {
+    if (!PointBuckets.isConcrete(origin)) {
+      return totalSubstitutionVersion;
+    }
+
+    return substitutionVersions.getOrDefault(PointBuckets.bucketKey(origin), 0L) + wildcardSubstitutionVersion;
+  }
+
+  public List<DownstreamRequestEffect> getDownstreamRequests() {
+    return downstreamRequests;
+  }
+
+  public List<UpstreamResponseEffect> getUpstreamResponses() {
+    return upstreamResponses;
+  }
+
+  public List<Substitution> getInclusions() {
+    return inclusions;
+  }
+
+  public List<Substitution> getExclusions() {
+    return exclusions;
+  }
+
   public FaultUid getRootCause() {
     for (var upstream : downstreamRequests) {
       if (upstream.cause.isInitial()) {
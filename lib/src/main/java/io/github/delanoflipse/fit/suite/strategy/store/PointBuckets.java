@@ -0,0 +1,164 @@
+package io.github.delanoflipse.fit.suite.strategy.store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.github.delanoflipse.fit.suite.faultload.FaultInjectionPoint;
+
+/**
+ * Values bucketed by a fault injection point, to find all values whose point
+ * matches a given point. Values with a concrete point are found by a direct
+ * lookup on their bucket key, only values (and queries) with a wildcard point
+ * fall back to a scan. Call stacks are often absent, so they are not part of
+ * the key, but are matched within the bucket. Every bucket is kept in a fixed
+ * order, so lookups need no sorting.
+ */
+public class PointBuckets<T> {
+    private final Function<T, FaultInjectionPoint> keyOf;
+    private final Comparator<Entry<T>> order;
+    private final Map<Key, List<Entry<T>>> buckets = new HashMap<>();
+    private final List<Entry<T>> wildcards = new ArrayList<>();
+    private long sequence = 0;
+
+    private record Entry<T>(long sequence, FaultInjectionPoint key, T value) {
+    }
+
+    /** The part of a concrete point that identifies its bucket */
+    public record Key(String destination, String signature, String payload, int count) {
+    }
+
+    /** Buckets in insertion order */
+    public PointBuckets(Function<T, FaultInjectionPoint> keyOf) {
+        this(keyOf, null);
+    }
+
+    /** Buckets ordered by the given comparator, and insertion order for ties */
+    public PointBuckets(Function<T, FaultInjectionPoint> keyOf, Comparator<T> comparator) {
+        this.keyOf = keyOf;
+        Comparator<Entry<T>> bySequence = Comparator.comparingLong(Entry::sequence);
+        this.order = comparator == null
+                ? bySequence
+                : Comparator.comparing((Entry<T> e) -> e.value(), comparator).thenComparing(bySequence);
+    }
+
+    /** Whether the point has a bucket, regardless of its call stack */
+    public static boolean isConcrete(FaultInjectionPoint point) {
+        return point != null
+                && point.destination() != null && !point.isAnyDestination()
+                && point.signature() != null && !point.isAnySignature()
+                && point.payload() != null && !point.isAnyPayload()
+                && point.count() >= 0;
+    }
+
+    /** The bucket key of a concrete point */
+    public static Key bucketKey(FaultInjectionPoint point) {
+        return new Key(point.destination(), point.signature(), point.payload(), point.count());
+    }
+
+    private List<Entry<T>> bucketOf(FaultInjectionPoint key) {
+        if (isConcrete(key)) {
+            return buckets.computeIfAbsent(bucketKey(key), k -> new ArrayList<>());
+        }
+
+        return wildcards;
+    }
+
+    public void add(T value) {
+        FaultInjectionPoint key = keyOf.apply(value);
+        Entry<T> entry = new Entry<>(sequence++, key, value);
+        List<Entry<T>> bucket = bucketOf(key);
+
+        int index = Collections.binarySearch(bucket, entry, order);
+        bucket.add(index < 0 ? -index - 1 : index, entry);
+    }
+
+    private static <T> void addMatching(List<Entry<T>> bucket, FaultInjectionPoint point, List<Entry<T>> target) {
+        for (var entry : bucket) {
+            if (entry.key() != null && entry.key().matches(point)) {
+                target.add(entry);
+            }
+        }
+    }
+
+    /** All values whose point matches the given point, in bucket order */
+    public List<T> get(FaultInjectionPoint point) {
+        if (point == null) {
+            return List.of();
+        }
+
+        List<Entry<T>> matches = new ArrayList<>();
+
+        if (isConcrete(point)) {
+            // Only the call stacks can differ within the bucket
+            addMatching(buckets.getOrDefault(bucketKey(point), List.of()), point, matches);
+
+            List<Entry<T>> wildcardMatches = new ArrayList<>();
+            addMatching(wildcards, point, wildcardMatches);
+
+            if (!wildcardMatches.isEmpty()) {
+                matches = merge(matches, wildcardMatches);
+            }
+        } else {
+            for (var bucket : buckets.values()) {
+                addMatching(bucket, point, matches);
+            }
+
+            addMatching(wildcards, point, matches);
+            matches.sort(order);
+        }
+
+        return matches.stream().map(Entry::value).toList();
+    }
+
+    /** Merge two lists that are both in bucket order */
+    private List<Entry<T>> merge(List<Entry<T>> a, List<Entry<T>> b) {
+        List<Entry<T>> merged = new ArrayList<>(a.size() + b.size());
+        int i = 0;
+        int j = 0;
+
+        while (i < a.size() && j < b.size()) {
+            if (order.compare(a.get(i), b.get(j)) <= 0) {
+                merged.add(a.get(i++));
+            } else {
+                merged.add(b.get(j++));
+            }
+        }
+
+        merged.addAll(a.subList(i, a.size()));
+        merged.addAll(b.subList(j, b.size()));
+        return merged;
+    }
+
+    /** Remove the values whose point matches the given point, and that satisfy the filter */
+    public void removeIf(FaultInjectionPoint point, Predicate<T> filter) {
+        if (point == null) {
+            return;
+        }
+
+        if (isConcrete(point)) {
+            List<Entry<T>> bucket = buckets.get(bucketKey(point));
+
+            if (bucket != null) {
+                bucket.removeIf(entry -> entry.key().matches(point) && filter.test(entry.value()));
+            }
+        } else {
+            for (var bucket : buckets.values()) {
+                bucket.removeIf(entry -> entry.key().matches(point) && filter.test(entry.value()));
+            }
+        }
+
+        wildcards.removeIf(entry -> entry.key() != null && entry.key().matches(point)
+                && filter.test(entry.value()));
+    }
+
+    public void clear() {
+        buckets.clear();
+        wildcards.clear();
+    }
+}
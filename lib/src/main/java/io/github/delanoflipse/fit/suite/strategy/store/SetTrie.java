@@ -0,0 +1,186 @@
+package io.github.delanoflipse.fit.suite.strategy.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A set-trie (UBTree) over sets of elements. Elements are numbered in order
+ * of first insertion, and every stored set is a path from the root in
+ * increasing order of those numbers. Subset and superset queries can
+ * therefore skip whole branches, instead of comparing against every set.
+ */
+class SetTrie<E> {
+    private final Map<E, Integer> ids = new HashMap<>();
+    private final Node<E> root = new Node<>();
+
+    private static class Node<E> {
+        private final TreeMap<Integer, Node<E>> children = new TreeMap<>();
+        // The stored set that ends in this node, if any
+        private Set<E> value = null;
+
+        private boolean isEmpty() {
+            return value == null && children.isEmpty();
+        }
+    }
+
+    private int[] register(Set<E> set) {
+        int[] path = new int[set.size()];
+        int i = 0;
+
+        for (E element : set) {
+            path[i++] = ids.computeIfAbsent(element, e -> ids.size());
+        }
+
+        Arrays.sort(path);
+        return path;
+    }
+
+    /** The path of a set, ignoring elements that are in none of the sets */
+    private int[] known(Set<E> set) {
+        int[] path = new int[set.size()];
+        int i = 0;
+
+        for (E element : set) {
+            Integer id = ids.get(element);
+            if (id != null) {
+                path[i++] = id;
+            }
+        }
+
+        path = Arrays.copyOf(path, i);
+        Arrays.sort(path);
+        return path;
+    }
+
+    /** The path of a set, or null if it contains an unknown element */
+    private int[] exact(Set<E> set) {
+        int[] path = known(set);
+        return path.length == set.size() ? path : null;
+    }
+
+    public void add(Set<E> set) {
+        Node<E> node = root;
+
+        for (int id : register(set)) {
+            node = node.children.computeIfAbsent(id, k -> new Node<>());
+        }
+
+        node.value = set;
+    }
+
+    public void remove(Set<E> set) {
+        int[] path = exact(set);
+
+        if (path != null) {
+            remove(root, path, 0);
+        }
+    }
+
+    private boolean remove(Node<E> node, int[] path, int i) {
+        if (i == path.length) {
+            node.value = null;
+        } else {
+            Node<E> child = node.children.get(path[i]);
+
+            if (child != null && remove(child, path, i + 1)) {
+                node.children.remove(path[i]);
+            }
+        }
+
+        return node.isEmpty();
+    }
+
+    public boolean contains(Set<E> set) {
+        int[] path = exact(set);
+        if (path == null) {
+            return false;
+        }
+
+        Node<E> node = root;
+        for (int id : path) {
+            node = node.children.get(id);
+
+            if (node == null) {
+                return false;
+            }
+        }
+
+        return node.value != null;
+    }
+
+    /** Whether any stored set is a subset of the given set */
+    public boolean hasSubsetOf(Set<E> set) {
+        return hasSubsetOf(root, known(set), 0);
+    }
+
+    private boolean hasSubsetOf(Node<E> node, int[] path, int i) {
+        if (node.value != null) {
+            return true;
+        }
+
+        for (int j = i; j < path.length; j++) {
+            Node<E> child = node.children.get(path[j]);
+
+            if (child != null && hasSubsetOf(child, path, j + 1)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** Whether any stored set is a superset of the given set */
+    public boolean hasSupersetOf(Set<E> set) {
+        int[] path = exact(set);
+        return path != null && hasSupersetOf(root, path, 0);
+    }
+
+    private boolean hasSupersetOf(Node<E> node, int[] path, int i) {
+        if (i == path.length) {
+            // Every leaf holds a set, so any non-empty subtree has a superset
+            return !node.isEmpty();
+        }
+
+        for (var entry : node.children.headMap(path[i], true).entrySet()) {
+            int next = entry.getKey() == path[i] ? i + 1 : i;
+
+            if (hasSupersetOf(entry.getValue(), path, next)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** All stored sets that are a superset of the given set */
+    public List<Set<E>> getSupersetsOf(Set<E> set) {
+        List<Set<E>> supersets = new ArrayList<>();
+        int[] path = exact(set);
+
+        if (path != null) {
+            collectSupersets(root, path, 0, supersets);
+        }
+
+        return supersets;
+    }
+
+    private void collectSupersets(Node<E> node, int[] path, int i, List<Set<E>> supersets) {
+        if (i == path.length && node.value != null) {
+            supersets.add(node.value);
+        }
+
+        var candidates = i == path.length
+                ? node.children
+                : node.children.headMap(path[i], true);
+
+        for (var entry : candidates.entrySet()) {
+            int next = i < path.length && entry.getKey() == path[i] ? i + 1 : i;
+            collectSupersets(entry.getValue(), path, next, supersets);
+        }
+    }
+}
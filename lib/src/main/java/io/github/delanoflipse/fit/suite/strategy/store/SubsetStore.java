@@ -1,6 +1,8 @@
 package io.github.delanoflipse.fit.suite.strategy.store;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiPredicate;
@@ -12,6 +14,8 @@ public class SubsetStore<E> {
     private final boolean allowNull = false;
     private final boolean minimize;
     private BiPredicate<E, E> equality = (a, b) -> a.equals(b);
+    // Only for plain equality, a custom equality falls back to a scan
+    private SetTrie<E> index = new SetTrie<>();
 
     public SubsetStore(boolean minimize) {
         this.minimize = minimize;
@@ -23,6 +27,7 @@ public class SubsetStore<E> {
 
     public SubsetStore<E> withEquality(BiPredicate<E, E> equality) {
         this.equality = equality;
+        this.index = null;
         return this;
     }
 
@@ -54,6 +59,10 @@ public class SubsetStore<E> {
             return false;
         }
 
+        if (index != null) {
+            return index.hasSubsetOf(set);
+        }
+
         for (Set<E> s : sets) {
             // if s <= set
             if (isSubsetOf(s, set)) {
@@ -69,6 +78,10 @@ public class SubsetStore<E> {
             return true;
         }
 
+        if (index != null) {
+            return index.hasSupersetOf(set);
+        }
+
         for (Set<E> s : sets) {
             // if set <= s
             if (isSubsetOf(set, s)) {
@@ -84,6 +97,10 @@ public class SubsetStore<E> {
             return false;
         }
 
+        if (index != null) {
+            return index.contains(set);
+        }
+
         for (Set<E> s : sets) {
             if (s.equals(set)) {
                 return true;
@@ -105,10 +122,32 @@ public class SubsetStore<E> {
 
             // remove all sets that are subsets of the new set
             // if set <= s
-            sets.removeIf(s -> isSubsetOf(set, s));
+            if (index != null) {
+                removeAll(index.getSupersetsOf(set));
+            } else {
+                sets.removeIf(s -> isSubsetOf(set, s));
+            }
         }
 
         sets.add(set);
+
+        if (index != null) {
+            index.add(set);
+        }
+    }
+
+    private void removeAll(List<Set<E>> supersets) {
+        if (supersets.isEmpty()) {
+            return;
+        }
+
+        Set<Set<E>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Set<E> superset : supersets) {
+            removed.add(superset);
+            index.remove(superset);
+        }
+
+        sets.removeIf(removed::contains);
     }
 
     public int size() {
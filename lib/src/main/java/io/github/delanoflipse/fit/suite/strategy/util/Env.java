@@ -10,7 +10,33 @@ public class Env {
         USE_REMOTE("false"),
         CONTROLLER_IMAGE("dflipse/ds-fit-controller:latest"),
         PROXY_IMAGE("dflipse/ds-fit-proxy:latest"),
-        LOG_LEVEL("info");
+        LOG_LEVEL("info"),
+        // Checkpointing of long explorations
+        CHECKPOINT_FILE(""),
+        CHECKPOINT_INTERVAL(""),
+        RESUME("false"),
+        // Knowledge carried over between runs
+        KNOWLEDGE_FILE(""),
+        WARM_START("false"),
+        // Change-impact targeted re-runs
+        HISTORY_DIR(""),
+        RERUN_CHANGED("false"),
+        // Outcome cache, and identity of the application if not instrumented
+        OUTCOME_CACHE("false"),
+        OUTCOME_CACHE_FILE(""),
+        APP_FINGERPRINT(""),
+        // Fixed time slot in seconds, explored in a budget-aware manner
+        TIME_BUDGET_S(""),
+        // Distributed exploration, a coordinator listens on a port and
+        // workers connect to its host:port address. It binds to the loopback
+        // interface, unless another address is given
+        COORDINATOR_PORT(""),
+        COORDINATOR_BIND_ADDRESS(""),
+        COORDINATOR_LANES("8"),
+        COORDINATOR_ADDRESS(""),
+        WORKER_LEASE_SIZE("1"),
+        // Static partition of the fault space, as i/n
+        SHARD("");
 
         private final String defaultValue;
 
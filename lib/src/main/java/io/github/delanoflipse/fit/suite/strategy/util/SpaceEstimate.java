@@ -1,6 +1,6 @@
 package io.github.delanoflipse.fit.suite.strategy.util;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.Set;
 
 import io.github.delanoflipse.fit.suite.faultload.Fault;
@@ -24,12 +24,11 @@ public class SpaceEstimate {
         return spaceSize(modes, points, subset) - 1;
     }
 
-    public static long estimatePointSubsetsImpact(Set<FaultUid> all, List<Set<FaultUid>> subsets, long modeCount) {
+    public static long estimatePointSubsetsImpact(Set<FaultUid> all, Collection<Set<FaultUid>> subsets, long modeCount) {
         int pointCount = all.size();
         long sum = 0;
 
-        for (int i = 0; i < subsets.size(); i++) {
-            var subset = subsets.get(i);
+        for (var subset : subsets) {
             long contribution = SpaceEstimate.nonEmptySpaceSize(modeCount, pointCount, subset.size());
             sum += contribution;
 
@@ -40,12 +39,11 @@ public class SpaceEstimate {
         return sum;
     }
 
-    public static long estimateFaultSubsetsImpact(Set<FaultUid> all, List<Set<Fault>> subsets, long modeCount) {
+    public static long estimateFaultSubsetsImpact(Set<FaultUid> all, Collection<Set<Fault>> subsets, long modeCount) {
         int pointCount = all.size();
         long sum = 0;
 
-        for (int i = 0; i < subsets.size(); i++) {
-            var subset = subsets.get(i);
+        for (var subset : subsets) {
             long contribution = SpaceEstimate.spaceSize(modeCount, pointCount - subset.size());
             sum += contribution;
 
@@ -3,6 +3,7 @@ package io.github.delanoflipse.fit.suite.strategy.util;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -285,19 +286,13 @@ public class TraceAnalysis {
 
     public List<TraceReport> getReports(TraversalOrder strategy) {
         var traversal = new TraversalStrategy<TraceReport>(strategy);
-        List<Pair<TraceReport, TraceReport>> edges = parentChildRelation.getRelations().stream()
-                .filter(pair -> pair.first() != null && pair.second() != null)
-                .filter(pair -> reportByPoint.containsKey(pair.first())
-                        && reportByPoint.containsKey(pair.second()))
-                .map(pair -> new Pair<TraceReport, TraceReport>(getReportByFaultUid(pair.first()),
-                        getReportByFaultUid(pair.second())))
-                .toList();
-        List<TraceReport> foundReports = traversal.traverse(rootReport, edges);
+        List<TraceReport> foundReports = traversal.traverse(rootReport, this::getChildReports);
 
         // ensure each known fault is present, not just those in the tree
+        Set<TraceReport> found = new HashSet<>(foundReports);
         int missing = 0;
         for (var report : reports) {
-            if (!foundReports.contains(report)) {
+            if (found.add(report)) {
                 foundReports.add(report);
                 missing++;
             }
@@ -310,14 +305,32 @@ public class TraceAnalysis {
         return foundReports;
     }
 
+    private List<TraceReport> getChildReports(TraceReport report) {
+        if (report == null || report.injectionPoint == null) {
+            return List.of();
+        }
+
+        List<TraceReport> children = new ArrayList<>();
+        for (FaultUid child : parentChildRelation.getChildren(report.injectionPoint)) {
+            TraceReport childReport = child == null ? null : getReportByFaultUid(child);
+            if (childReport != null) {
+                children.add(childReport);
+            }
+        }
+
+        return children;
+    }
+
     public List<FaultUid> getFaultUids(TraversalOrder strategy) {
         var traversal = new TraversalStrategy<FaultUid>(strategy);
-        List<FaultUid> foundFaults = traversal.traverse(rootReport.injectionPoint, parentChildRelation.getRelations());
+        List<FaultUid> foundFaults = traversal.traverse(rootReport.injectionPoint,
+                parentChildRelation::getChildren);
 
         // ensure each known fault is present, not just those in the tree
+        Set<FaultUid> found = new HashSet<>(foundFaults);
         int missing = 0;
         for (var fp : faultUids) {
-            if (!foundFaults.contains(fp)) {
+            if (found.add(fp)) {
                 foundFaults.add(fp);
                 missing++;
             }
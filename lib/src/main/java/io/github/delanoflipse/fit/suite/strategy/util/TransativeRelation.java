@@ -1,6 +1,8 @@
 package io.github.delanoflipse.fit.suite.strategy.util;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -11,34 +13,83 @@ public class TransativeRelation<X> {
     private final Set<X> elements = new LinkedHashSet<>();
     private final Map<X, X> inverseRelation = new LinkedHashMap<>();
     private final Map<X, Set<X>> relation = new LinkedHashMap<>();
-    private final Map<X, Set<X>> transitiveRelations = new LinkedHashMap<>();
+
+    // The transative closure, as reachability bitsets over element ids.
+    // Kept up to date on every added relation.
+    private final Map<X, Integer> ids = new HashMap<>();
+    private final List<X> byId = new ArrayList<>();
+    private final List<BitSet> descendants = new ArrayList<>();
+    private final List<BitSet> ancestors = new ArrayList<>();
+
+    private int idOf(X element) {
+        Integer id = ids.get(element);
+        if (id != null) {
+            return id;
+        }
+
+        id = byId.size();
+        ids.put(element, id);
+        byId.add(element);
+        descendants.add(new BitSet());
+        ancestors.add(new BitSet());
+        return id;
+    }
+
+    private boolean isSame(X parent, X child) {
+        return (parent == null && child == null) || (parent != null && parent.equals(child));
+    }
 
     public void addRelation(X parent, X child) {
-        elements.add(parent);
-        elements.add(child);
+        if (!tryAddRelation(parent, child)) {
+            if (isSame(parent, child)) {
+                throw new IllegalArgumentException(
+                        "Cannot relate two equal items, this will create a circular dependency.");
+            }
 
-        if ((parent == null && child == null) || (parent != null && parent.equals(child))) {
-            throw new IllegalArgumentException(
-                    "Cannot relate two equal items, this will create a circular dependency.");
+            throw new IllegalArgumentException("Adding this relation would create a circular dependency.");
         }
+    }
 
-        if (hasTransativeRelation(child, parent)) {
-            throw new IllegalArgumentException("Adding this relation would create a circular dependency.");
+    /** Add the relation, unless it would create a circular dependency */
+    public boolean tryAddRelation(X parent, X child) {
+        elements.add(parent);
+        elements.add(child);
+
+        if (isSame(parent, child) || hasTransativeRelation(child, parent)) {
+            return false;
         }
 
         inverseRelation.put(child, parent);
         relation.computeIfAbsent(parent, k -> new LinkedHashSet<>());
-        relation.get(parent).add(child);
-        var root = getRoot(parent);
-        updateTransitiveRelations(root);
+
+        if (relation.get(parent).add(child)) {
+            addToClosure(idOf(parent), idOf(child));
+        }
+
+        return true;
+    }
+
+    private void addToClosure(int parent, int child) {
+        // Everything up to (and including) the parent can reach
+        // everything down from (and including) the child
+        BitSet up = (BitSet) ancestors.get(parent).clone();
+        up.set(parent);
+        BitSet down = (BitSet) descendants.get(child).clone();
+        down.set(child);
+
+        for (int a = up.nextSetBit(0); a >= 0; a = up.nextSetBit(a + 1)) {
+            descendants.get(a).or(down);
+        }
+
+        for (int d = down.nextSetBit(0); d >= 0; d = down.nextSetBit(d + 1)) {
+            ancestors.get(d).or(up);
+        }
     }
 
     public void removeRelation(X parent, X child) {
         if (!hasDirectRelation(parent, child)) {
             throw new IllegalArgumentException("No such relation exists.");
         }
-        X root = getRoot(parent);
-        clearTransativeRelation(root);
 
         inverseRelation.remove(child);
         relation.get(parent).remove(child);
@@ -46,28 +97,29 @@ public class TransativeRelation<X> {
             relation.remove(parent);
         }
 
-        updateTransitiveRelations(root);
+        rebuildClosure();
     }
 
-    private void clearTransativeRelation(X root) {
-        transitiveRelations.remove(root);
-        for (X descendant : getChildren(root)) {
-            clearTransativeRelation(descendant);
+    private void rebuildClosure() {
+        for (int i = 0; i < byId.size(); i++) {
+            descendants.get(i).clear();
+            ancestors.get(i).clear();
+        }
+
+        for (var entry : relation.entrySet()) {
+            for (X child : entry.getValue()) {
+                addToClosure(idOf(entry.getKey()), idOf(child));
+            }
         }
     }
 
-    private Set<X> updateTransitiveRelations(X root) {
-        // The children of the child are also transative children of the parent
-        Set<X> descendants = new LinkedHashSet<>();
-        for (X descendant : getChildren(root)) {
-            descendants.add(descendant);
-            descendants.addAll(updateTransitiveRelations(descendant));
+    private Set<X> elementsOf(BitSet bits) {
+        Set<X> result = new LinkedHashSet<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            result.add(byId.get(i));
         }
 
-        // Add the transative relation
-        transitiveRelations.computeIfAbsent(root, k -> new LinkedHashSet<>());
-        transitiveRelations.get(root).addAll(descendants);
-        return descendants;
+        return result;
     }
 
     public boolean hasDirectRelation(X parent, X child) {
@@ -75,7 +127,14 @@ public class TransativeRelation<X> {
     }
 
     public boolean hasTransativeRelation(X parent, X child) {
-        return transitiveRelations.containsKey(parent) && transitiveRelations.get(parent).contains(child);
+        Integer parentId = ids.get(parent);
+        Integer childId = ids.get(child);
+
+        if (parentId == null || childId == null) {
+            return false;
+        }
+
+        return descendants.get(parentId).get(childId);
     }
 
     public boolean areRelated(X item1, X item2) {
@@ -87,7 +146,13 @@ public class TransativeRelation<X> {
     }
 
     public Set<X> getDecendants(X parent) {
-        return transitiveRelations.getOrDefault(parent, Set.of());
+        Integer id = ids.get(parent);
+
+        if (id == null) {
+            return Set.of();
+        }
+
+        return elementsOf(descendants.get(id));
     }
 
     public X getParent(X child) {
@@ -95,12 +160,7 @@ public class TransativeRelation<X> {
     }
 
     public X getRootOf(X child) {
-        X parent = getParent(child);
-        if (parent == null) {
-            return child;
-        } else {
-            return getRootOf(parent);
-        }
+        return getRoot(child);
     }
 
     public List<Pair<X, X>> getRelations() {
@@ -115,9 +175,10 @@ public class TransativeRelation<X> {
 
     public List<Pair<X, X>> getTransativeRelations() {
         List<Pair<X, X>> relations = new ArrayList<>();
-        for (X parent : transitiveRelations.keySet()) {
-            for (X child : transitiveRelations.get(parent)) {
-                relations.add(new Pair<>(parent, child));
+        for (int i = 0; i < byId.size(); i++) {
+            BitSet bits = descendants.get(i);
+            for (int j = bits.nextSetBit(0); j >= 0; j = bits.nextSetBit(j + 1)) {
+                relations.add(new Pair<>(byId.get(i), byId.get(j)));
             }
         }
         return relations;
@@ -136,18 +197,27 @@ public class TransativeRelation<X> {
 
     public X getFirstCommonAncestor(X child1, X child2) {
         List<X> parents1 = getParents(child1);
-        List<X> parents2 = getParents(child2);
-        parents1.retainAll(parents2);
-        return parents1.stream().findFirst().orElse(null);
+        Set<X> parents2 = new LinkedHashSet<>(getParents(child2));
+
+        for (X parent : parents1) {
+            if (parents2.contains(parent)) {
+                return parent;
+            }
+        }
+
+        return null;
     }
 
     public X getRoot(X child) {
-        X parent = getParent(child);
-        if (parent == null) {
-            return child;
-        } else {
-            return getRoot(parent);
+        X current = child;
+        X parent = getParent(current);
+
+        while (parent != null) {
+            current = parent;
+            parent = getParent(current);
         }
+
+        return current;
     }
 
     public Set<X> getElements() {
@@ -160,31 +230,28 @@ public class TransativeRelation<X> {
                 .filter(x -> getParent(x) == null)
                 .toList();
 
-        var edges = getRelations();
-
-        var ordered = new ArrayList<X>();
-        var front = new ArrayList<>(roots);
-
         // no roots, just return them all
         if (roots.isEmpty()) {
             return List.copyOf(elements);
         }
 
-        while (!front.isEmpty()) {
-            X el = front.remove(0);
-            ordered.add(el);
+        Map<X, Integer> incoming = new HashMap<>();
+        for (Set<X> children : relation.values()) {
+            for (X child : children) {
+                incoming.merge(child, 1, Integer::sum);
+            }
+        }
+
+        // The ordered list doubles as the queue of the front
+        var ordered = new ArrayList<X>(roots);
+
+        for (int i = 0; i < ordered.size(); i++) {
+            X el = ordered.get(i);
 
-            var edgesFrom = edges.stream()
-                    .filter(x -> x.first().equals(el))
-                    .toList();
-            for (var edge : edgesFrom) {
-                var edgeDestination = edge.second();
-                edges.remove(edge);
-                var edgesLeft = edges.stream()
-                        .filter(x -> x.second().equals(edgeDestination))
-                        .count();
+            for (X edgeDestination : getChildren(el)) {
+                int edgesLeft = incoming.merge(edgeDestination, -1, Integer::sum);
                 if (edgesLeft == 0) {
-                    front.add(edgeDestination);
+                    ordered.add(edgeDestination);
                 }
             }
         }
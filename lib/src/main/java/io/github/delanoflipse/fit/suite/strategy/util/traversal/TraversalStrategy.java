@@ -1,10 +1,19 @@
 package io.github.delanoflipse.fit.suite.strategy.util.traversal;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Function;
 
 import io.github.delanoflipse.fit.suite.strategy.util.Pair;
 
@@ -16,37 +25,55 @@ public class TraversalStrategy<X> {
     }
 
     public List<X> traverse(X root, List<Pair<X, X>> edges) {
-        // Ensure that we only visit each node once
-        // In case of cycles, this will prevent infinite loops
+        if (mode == TraversalOrder.RANDOM) {
+            Set<X> nodes = new LinkedHashSet<>();
+            for (Pair<X, X> edge : edges) {
+                nodes.add(edge.first());
+                nodes.add(edge.second());
+            }
+
+            List<X> shuffled = new ArrayList<>(nodes);
+            Collections.shuffle(shuffled);
+            return shuffled;
+        }
+
+        Map<X, List<X>> adjacency = new LinkedHashMap<>();
+        for (Pair<X, X> edge : edges) {
+            adjacency.computeIfAbsent(edge.first(), k -> new ArrayList<>()).add(edge.second());
+        }
+
+        return traverse(root, node -> adjacency.getOrDefault(node, List.of()));
+    }
+
+    public List<X> traverse(X root, Function<X, ? extends Collection<X>> children) {
+        List<X> result = new ArrayList<>();
+        iterator(root, children).forEachRemaining(result::add);
+        return result;
+    }
 
+    /** Lazily visit all nodes reachable from the root, in the traversal order */
+    public Iterator<X> iterator(X root, Function<X, ? extends Collection<X>> children) {
         switch (mode) {
             case DEPTH_FIRST_PRE_ORDER,
                     DEPTH_FIRST_REVERSE_PRE_ORDER,
                     DEPTH_FIRST_POST_ORDER,
                     DEPTH_FIRST_REVERSE_POST_ORDER -> {
-                Set<X> visited = new LinkedHashSet<>();
-                visited.add(root);
-                return visitNodeDfs(root, edges, visited);
+                return new DepthFirstIterator(root, children, mode.getNodeOrder());
             }
 
             case BREADTH_FIRST -> {
-                return visitNodeBfs(root, edges, false);
+                return new BreadthFirstIterator(root, children, false);
             }
 
             case BREADTH_FIRST_REVERSE -> {
-                return visitNodeBfs(root, edges, true);
+                return new BreadthFirstIterator(root, children, true);
             }
 
             case RANDOM -> {
-                Set<X> nodes = new LinkedHashSet<>();
-                for (Pair<X, X> edge : edges) {
-                    nodes.add(edge.first());
-                    nodes.add(edge.second());
-                }
-
-                List<X> shuffled = new ArrayList<>(nodes);
+                List<X> shuffled = new ArrayList<>();
+                new BreadthFirstIterator(root, children, false).forEachRemaining(shuffled::add);
                 Collections.shuffle(shuffled);
-                return shuffled;
+                return shuffled.iterator();
             }
 
             default -> {
@@ -55,107 +82,155 @@ public class TraversalStrategy<X> {
         }
     }
 
-    private List<X> getChildren(X node, List<Pair<X, X>> edges, Set<X> visited) {
-        List<X> children = new ArrayList<>();
+    private abstract class LookaheadIterator implements Iterator<X> {
+        private X next;
+        private boolean ready = false;
+        private boolean done = false;
 
-        for (Pair<X, X> edge : edges) {
-            if (edge.first().equals(node)) {
-                var child = edge.second();
-                if (!visited.contains(child)) {
-                    visited.add(child);
-                    children.add(child);
-                }
-            }
+        /** Returns false when there are no more nodes */
+        protected abstract boolean advance();
+
+        protected void emit(X node) {
+            next = node;
         }
 
-        return children;
-    }
+        @Override
+        public boolean hasNext() {
+            if (!ready && !done) {
+                ready = advance();
+                done = !ready;
+            }
 
-    private List<X> getChildren(X node, List<Pair<X, X>> edges) {
-        List<X> children = new ArrayList<>();
+            return ready;
+        }
 
-        for (Pair<X, X> edge : edges) {
-            if (edge.first().equals(node)) {
-                var child = edge.second();
-                children.add(child);
+        @Override
+        public X next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
-        }
 
-        return children;
+            ready = false;
+            return next;
+        }
     }
 
-    private List<X> visitNodeBfs(X node, List<Pair<X, X>> edges, boolean reversed) {
-        List<X> result = new ArrayList<>();
-        List<X> queue = new ArrayList<>();
+    private class DepthFirstIterator extends LookaheadIterator {
+        private final Function<X, ? extends Collection<X>> childrenOf;
+        private final boolean preOrder;
+        private final boolean reversed;
 
-        Set<X> visited = new LinkedHashSet<>();
-        queue.add(node);
+        // Ensure that we only visit each node once
+        // In case of cycles, this will prevent infinite loops
+        private final Set<X> visited = new HashSet<>();
+        private final Deque<Frame> stack = new ArrayDeque<>();
+        private boolean rootPending;
+
+        private class Frame {
+            final X node;
+            final List<X> children;
+            int next = 0;
+
+            Frame(X node, List<X> children) {
+                this.node = node;
+                this.children = children;
+            }
+        }
 
-        while (!queue.isEmpty()) {
-            X currentNode = queue.remove(0);
+        DepthFirstIterator(X root, Function<X, ? extends Collection<X>> childrenOf, NodeOrder order) {
+            this.childrenOf = childrenOf;
+            this.preOrder = order == NodeOrder.PRE_ORDER || order == NodeOrder.REVERSE_PRE_ORDER;
+            this.reversed = order == NodeOrder.REVERSE_PRE_ORDER || order == NodeOrder.REVERSE_POST_ORDER;
 
-            if (visited.contains(currentNode)) {
-                continue; // Skip already visited nodes
-            }
+            visited.add(root);
+            stack.push(enter(root));
+            rootPending = preOrder;
+        }
 
-            visited.add(currentNode);
-            result.add(currentNode);
+        private Frame enter(X node) {
+            // Children are claimed when their parent is entered
+            List<X> children = new ArrayList<>();
+            for (X child : childrenOf.apply(node)) {
+                if (visited.add(child)) {
+                    children.add(child);
+                }
+            }
 
-            List<X> children = getChildren(currentNode, edges);
             if (reversed) {
-                Collections.reverse(children); // Reverse the order of children if needed
+                Collections.reverse(children);
             }
-            queue.addAll(children);
+
+            return new Frame(node, children);
         }
 
-        return result;
-    }
+        @Override
+        protected boolean advance() {
+            if (rootPending) {
+                rootPending = false;
+                emit(stack.peek().node);
+                return true;
+            }
 
-    private List<X> visitNodeDfs(X node, List<Pair<X, X>> edges, Set<X> visited) {
-        List<X> children = getChildren(node, edges, visited);
+            while (!stack.isEmpty()) {
+                Frame top = stack.peek();
 
-        switch (mode.getNodeOrder()) {
-            case PRE_ORDER -> {
-                List<X> result = new ArrayList<>();
-                result.add(node);
-                for (X child : children) {
-                    result.addAll(visitNodeDfs(child, edges, visited));
-                }
-                return result;
-            }
-            case POST_ORDER -> {
-                List<X> postOrderResult = new ArrayList<>();
-                for (X child : children) {
-                    postOrderResult.addAll(visitNodeDfs(child, edges, visited));
+                if (top.next < top.children.size()) {
+                    X child = top.children.get(top.next++);
+                    stack.push(enter(child));
+
+                    if (preOrder) {
+                        emit(child);
+                        return true;
+                    }
+                } else {
+                    stack.pop();
+
+                    if (!preOrder) {
+                        emit(top.node);
+                        return true;
+                    }
                 }
-                postOrderResult.add(node);
-                return postOrderResult;
             }
 
-            case REVERSE_PRE_ORDER -> {
-                List<X> reversePreOrderResult = new ArrayList<>();
-                reversePreOrderResult.add(node);
+            return false;
+        }
+    }
 
-                for (int i = children.size() - 1; i >= 0; i--) {
-                    reversePreOrderResult.addAll(visitNodeDfs(children.get(i), edges, visited));
-                }
+    private class BreadthFirstIterator extends LookaheadIterator {
+        private final Function<X, ? extends Collection<X>> childrenOf;
+        private final boolean reversed;
 
-                return reversePreOrderResult;
-            }
+        private final Set<X> visited = new HashSet<>();
+        // Consumed from the head, as nodes may be null
+        private final List<X> queue = new ArrayList<>();
+        private int head = 0;
+
+        BreadthFirstIterator(X root, Function<X, ? extends Collection<X>> childrenOf, boolean reversed) {
+            this.childrenOf = childrenOf;
+            this.reversed = reversed;
+            queue.add(root);
+        }
 
-            case REVERSE_POST_ORDER -> {
-                List<X> reversePostOrderResult = new ArrayList<>();
+        @Override
+        protected boolean advance() {
+            while (head < queue.size()) {
+                X node = queue.get(head++);
 
-                for (int i = children.size() - 1; i >= 0; i--) {
-                    reversePostOrderResult.addAll(visitNodeDfs(children.get(i), edges, visited));
+                if (!visited.add(node)) {
+                    continue; // Skip already visited nodes
                 }
 
-                reversePostOrderResult.add(node);
-                return reversePostOrderResult;
+                List<X> children = new ArrayList<>(childrenOf.apply(node));
+                if (reversed) {
+                    Collections.reverse(children);
+                }
+                queue.addAll(children);
+
+                emit(node);
+                return true;
             }
 
-            default -> throw new IllegalArgumentException("Unknown node order: " + mode.getNodeOrder());
+            return false;
         }
-
     }
 }
@@ -9,7 +9,7 @@ import io.github.delanoflipse.fit.suite.strategy.util.Pair;
 public class TaggedTimer {
     private final Map<String, Timer> timers = new LinkedHashMap<>();
 
-    public void start(String tag) {
+    public synchronized void start(String tag) {
         if (!timers.containsKey(tag)) {
             timers.put(tag, new Timer());
         }
@@ -17,7 +17,7 @@ public class TaggedTimer {
         timers.get(tag).start();
     }
 
-    public void stop(String tag) {
+    public synchronized void stop(String tag) {
         if (!timers.containsKey(tag)) {
             return;
         }
@@ -25,7 +25,7 @@ public class TaggedTimer {
         timers.get(tag).stop();
     }
 
-    public long durationMs(String tag) {
+    public synchronized long durationMs(String tag) {
         if (!timers.containsKey(tag)) {
             throw new IllegalStateException("Timer with tag " + tag + " not started");
         }
@@ -33,7 +33,7 @@ public class TaggedTimer {
         return timers.get(tag).durationNs();
     }
 
-    public double durationSeconds(String tag) {
+    public synchronized double durationSeconds(String tag) {
         if (!timers.containsKey(tag)) {
             throw new IllegalStateException("Timer with tag " + tag + " not started");
         }
@@ -41,7 +41,7 @@ public class TaggedTimer {
         return timers.get(tag).durationS();
     }
 
-    public List<Pair<String, Long>> getTimingsNs() {
+    public synchronized List<Pair<String, Long>> getTimingsNs() {
         return timers.entrySet()
                 .stream()
                 .map(entry -> new Pair<>(entry.getKey(), entry.getValue().durationNs()))
@@ -3,8 +3,10 @@ package io.github.delanoflipse.fit.suite.unit.generators;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.jupiter.api.Test;
 
 import io.github.delanoflipse.fit.suite.faultload.Behaviour;
@@ -13,9 +15,11 @@ import io.github.delanoflipse.fit.suite.strategy.FaultloadResult;
 import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
 import io.github.delanoflipse.fit.suite.strategy.components.PruneDecision;
 import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
+import io.github.delanoflipse.fit.suite.strategy.store.DynamicAnalysisStore;
 import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsModel;
 import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore;
 import io.github.delanoflipse.fit.suite.strategy.util.TraceAnalysis;
+import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
 import io.github.delanoflipse.fit.suite.trace.tree.TraceReport;
 import io.github.delanoflipse.fit.suite.trace.tree.TraceResponse;
 import io.github.delanoflipse.fit.suite.util.EventBuilder;
@@ -81,6 +85,82 @@ public class DynamicExplorationTest {
         return visited;
     }
 
+    // Generate one faultload ahead, and requeue it before handling feedback
+    private List<Faultload> speculativePlayout(DynamicExplorationGenerator generator, ImplicationsStore store) {
+        Faultload base = new Faultload(Set.of());
+        generator.handleFeedback(toResult(base, store), generator);
+
+        List<Faultload> visited = new ArrayList<>();
+        visited.add(base);
+
+        while (true) {
+            var next = generator.generate();
+            if (next == null) {
+                break;
+            }
+
+            visited.add(next);
+            var ahead = generator.generate();
+            if (ahead != null) {
+                generator.requeue(ahead);
+            }
+
+            generator.handleFeedback(toResult(next, store), generator);
+        }
+
+        return visited;
+    }
+
+    @Test
+    public void testRequeuePreservesOrder() {
+        var modes = FailureModes.getModes(2);
+
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = c.createChild("D");
+
+        ImplicationsStore store = new ImplicationsStore();
+        store.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        store.addDownstreamRequests(c.uid(), List.of(d.uid()));
+
+        for (boolean breadthFirst : List.of(true, false)) {
+            var expected = playout(new DynamicExplorationGenerator(new DynamicAnalysisStore(modes),
+                    x -> PruneDecision.KEEP, TraversalOrder.DEPTH_FIRST_POST_ORDER, breadthFirst), store);
+            var actual = speculativePlayout(new DynamicExplorationGenerator(new DynamicAnalysisStore(modes),
+                    x -> PruneDecision.KEEP, TraversalOrder.DEPTH_FIRST_POST_ORDER, breadthFirst), store);
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testCandidateScorePrefersSmallFaultloads() {
+        var modes = FailureModes.getModes(2);
+
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = c.createChild("D");
+
+        ImplicationsStore store = new ImplicationsStore();
+        store.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        store.addDownstreamRequests(c.uid(), List.of(d.uid()));
+
+        var expected = playout(new DynamicExplorationGenerator(new DynamicAnalysisStore(modes),
+                x -> PruneDecision.KEEP, TraversalOrder.DEPTH_FIRST_POST_ORDER, false), store);
+        var scored = new DynamicExplorationGenerator(new DynamicAnalysisStore(modes),
+                x -> PruneDecision.KEEP, TraversalOrder.DEPTH_FIRST_POST_ORDER, false)
+                .withCandidateScore(x -> 1.0 / x.size(), 64);
+        var actual = playout(scored, store);
+
+        assertEquals(Set.copyOf(expected), Set.copyOf(actual));
+
+        for (int i = 1; i < actual.size(); i++) {
+            assertTrue(actual.get(i - 1).size() <= actual.get(i).size());
+        }
+    }
+
     @Test
     public void testHappyPathOnly() {
         var modes = FailureModes.getModes(1);
@@ -195,4 +275,31 @@ public class DynamicExplorationTest {
         // [], B, B1, Binf
         assertEquals(4, result.size());
     }
+
+    @Test
+    public void testScoredSkipsPastOverBudget() {
+        var modes = FailureModes.getModes(2);
+
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = c.createChild("D");
+
+        ImplicationsStore store = new ImplicationsStore();
+        store.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        store.addDownstreamRequests(c.uid(), List.of(d.uid()));
+
+        Predicate<Faultload> affordable = faultload -> faultload.faultSet().stream()
+                .noneMatch(fault -> fault.uid().matches(b.uid()));
+
+        var unscored = playout(new DynamicExplorationGenerator(new DynamicAnalysisStore(modes),
+                x -> PruneDecision.KEEP, TraversalOrder.DEPTH_FIRST_POST_ORDER), store);
+        var scored = playout(new DynamicExplorationGenerator(new DynamicAnalysisStore(modes),
+                x -> PruneDecision.KEEP, TraversalOrder.DEPTH_FIRST_POST_ORDER)
+                .withCandidateScore(faults -> affordable.test(new Faultload(faults)) ? 1 : -1, 1), store);
+
+        // Faults at B are over budget, but everything else is still explored
+        assertEquals(Set.copyOf(unscored.stream().filter(affordable).toList()), Set.copyOf(scored));
+        assertTrue(scored.size() > 1);
+    }
 }
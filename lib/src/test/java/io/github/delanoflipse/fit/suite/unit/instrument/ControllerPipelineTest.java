@@ -0,0 +1,124 @@
+package io.github.delanoflipse.fit.suite.unit.instrument;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.Faultload;
+import io.github.delanoflipse.fit.suite.instrument.ControllerPipeline;
+import io.github.delanoflipse.fit.suite.instrument.FaultController;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import io.github.delanoflipse.fit.suite.strategy.util.TraceAnalysis;
+
+public class ControllerPipelineTest {
+
+    /** Records the calls, and waits for the gate before registering */
+    private static class FakeController implements FaultController {
+        final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch gate = new CountDownLatch(1);
+        Exception registerError = null;
+
+        @Override
+        public TraceAnalysis getTrace(TrackedFaultload faultload) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void registerFaultload(TrackedFaultload faultload) throws IOException {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+
+            if (registerError instanceof IOException io) {
+                throw io;
+            }
+
+            if (registerError instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+
+            calls.add("register " + faultload.getTraceId());
+        }
+
+        @Override
+        public void unregisterFaultload(TrackedFaultload faultload) throws IOException {
+            calls.add("unregister " + faultload.getTraceId());
+        }
+    }
+
+    private final TrackedFaultload faultload = new TrackedFaultload(new Faultload(Set.of()));
+
+    @Test
+    public void testOrdering() throws IOException {
+        FakeController controller = new FakeController();
+        ControllerPipeline pipeline = new ControllerPipeline(controller);
+        String id = faultload.getTraceId();
+
+        // Registration runs in the background, until it is awaited
+        pipeline.register(faultload);
+        assertTrue(controller.calls.isEmpty());
+
+        controller.gate.countDown();
+        pipeline.awaitRegistration(faultload);
+        assertEquals(List.of("register " + id), controller.calls);
+
+        pipeline.unregister(faultload, () -> controller.calls.add("after"));
+        pipeline.close();
+
+        assertEquals(List.of("register " + id, "unregister " + id, "after"), controller.calls);
+        assertEquals(0, pipeline.getPendingCount());
+    }
+
+    @Test
+    public void testCompletedUnregistrationsAreReleased() throws Exception {
+        FakeController controller = new FakeController();
+        ControllerPipeline pipeline = new ControllerPipeline(controller);
+        CountDownLatch done = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            pipeline.unregister(new TrackedFaultload(new Faultload(Set.of())), done::countDown);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        // The callbacks run before the futures are released
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (pipeline.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, pipeline.getPendingCount());
+        pipeline.close();
+    }
+
+    @Test
+    public void testRegistrationErrors() {
+        FakeController controller = new FakeController();
+        controller.gate.countDown();
+        ControllerPipeline pipeline = new ControllerPipeline(controller);
+
+        controller.registerError = new IOException("controller unavailable");
+        pipeline.register(faultload);
+        IOException io = assertThrows(IOException.class, () -> pipeline.awaitRegistration(faultload));
+        assertEquals("controller unavailable", io.getMessage());
+
+        // Unexpected errors are wrapped, and a faultload is registered when awaited
+        controller.registerError = new IllegalStateException("bug");
+        IOException wrapped = assertThrows(IOException.class, () -> pipeline.awaitRegistration(faultload));
+        assertTrue(wrapped.getCause() instanceof IllegalStateException);
+
+        pipeline.close();
+    }
+}
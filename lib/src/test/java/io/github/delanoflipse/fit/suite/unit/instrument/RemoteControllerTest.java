@@ -0,0 +1,101 @@
+package io.github.delanoflipse.fit.suite.unit.instrument;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.Faultload;
+import io.github.delanoflipse.fit.suite.instrument.controller.RemoteController;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class RemoteControllerTest {
+    private final TrackedFaultload faultload = new TrackedFaultload(new Faultload(Set.of()));
+
+    /** A controller of which every call completes through the given callback */
+    private RemoteController controllerWith(BiConsumer<Call, Callback> completion) {
+        Call.Factory factory = mock(Call.Factory.class);
+
+        when(factory.newCall(any())).thenAnswer(invocation -> {
+            Request request = invocation.getArgument(0);
+            Call call = mock(Call.class);
+            when(call.request()).thenReturn(request);
+            doAnswer(enqueued -> {
+                completion.accept(call, enqueued.getArgument(0));
+                return null;
+            }).when(call).enqueue(any());
+            return call;
+        });
+
+        return new RemoteController("http://controller", factory);
+    }
+
+    private static Response.Builder responseTo(Call call) {
+        return new Response.Builder()
+                .request(call.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK");
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+
+    @Test
+    public void testSuccess() throws Exception {
+        RemoteController controller = controllerWith((call, callback) -> {
+            try {
+                callback.onResponse(call, responseTo(call).body(ResponseBody.create("OK", null)).build());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertNull(controller.registerFaultloadAsync(faultload).get(5, TimeUnit.SECONDS));
+        assertNull(controller.registerFaultloadsAsync(List.of(faultload, faultload)).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testIOFailure() {
+        RemoteController controller = controllerWith(
+                (call, callback) -> callback.onFailure(call, new IOException("unreachable")));
+
+        assertTrue(failureOf(controller.registerFaultloadAsync(faultload)) instanceof IOException);
+        assertTrue(failureOf(controller.unregisterFaultloadsAsync(List.of(faultload))) instanceof IOException);
+    }
+
+    @Test
+    public void testHandlerFailure() {
+        // Without a body, handling the response fails with a runtime exception
+        RemoteController controller = controllerWith((call, callback) -> {
+            try {
+                callback.onResponse(call, responseTo(call).build());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertTrue(failureOf(controller.registerFaultloadAsync(faultload)) instanceof NullPointerException);
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.delanoflipse.fit.suite.unit.models;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.FaultSet;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
+import io.github.delanoflipse.fit.suite.faultload.modes.FailureMode;
+import io.github.delanoflipse.fit.suite.strategy.components.generators.TreeNode;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class FaultSetTest {
+    private final List<FailureMode> modes = FailureModes.getModes(2);
+    private final EventBuilder root = new EventBuilder().withPoint("A", "a");
+    private final Fault f1 = new Fault(root.createChild().withPoint("B", "b").uid(), modes.get(0));
+    private final Fault f2 = new Fault(root.createChild().withPoint("C", "c").uid(), modes.get(0));
+    private final Fault f3 = new Fault(root.createChild().withPoint("C", "c").uid(), modes.get(1));
+
+    @Test
+    public void testBehavesAsSet() {
+        FaultSet set = FaultSet.of(f1, f2);
+        Set<Fault> hashSet = new HashSet<>(List.of(f2, f1));
+
+        assertEquals(2, set.size());
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertTrue(set.contains(f1));
+        assertFalse(set.contains(f3));
+        assertEquals(hashSet, new HashSet<>(set));
+    }
+
+    @Test
+    public void testOrderIndependent() {
+        assertEquals(FaultSet.of(f1, f2, f3), FaultSet.of(f3, f2, f1));
+        assertEquals(new TreeNode(List.of(f1, f2)), new TreeNode(List.of(f2, f1)));
+        assertEquals(new TreeNode(List.of(f1)).plus(f2), new TreeNode(List.of(f2, f1)));
+    }
+
+    @Test
+    public void testSubsets() {
+        FaultSet small = FaultSet.of(f1);
+        FaultSet large = FaultSet.of(f1, f3);
+
+        assertTrue(small.isSubsetOf(large));
+        assertTrue(large.containsAll(small));
+        assertFalse(large.isSubsetOf(small));
+        assertFalse(FaultSet.of(f2).isSubsetOf(large));
+        assertTrue(FaultSet.EMPTY.isSubsetOf(small));
+
+        assertEquals(FaultSet.of(f3), large.minus(small));
+        assertEquals(FaultSet.EMPTY, small.minus(large));
+        assertNotEquals(small, large);
+    }
+
+    @Test
+    public void testPlus() {
+        FaultSet set = FaultSet.of(f1);
+
+        assertSame(set, set.plus(f1));
+        assertEquals(FaultSet.of(f1, f2), set.plus(f2));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testConcurrentCreation() throws InterruptedException {
+        int threads = 8;
+        int perThread = 200;
+        List<Set<Fault>> expected = new ArrayList<>();
+        List<FaultSet> actual = Collections.synchronizedList(new ArrayList<>());
+
+        for (int t = 0; t < threads; t++) {
+            Set<Fault> faults = new HashSet<>();
+            for (int i = 0; i < perThread; i++) {
+                faults.add(new Fault(root.createChild().withPoint("T" + t, "p" + i).uid(), modes.get(0)));
+            }
+            expected.add(faults);
+        }
+
+        // Sets of new uids are created by all threads at once
+        List<Thread> workers = new ArrayList<>();
+        for (Set<Fault> faults : expected) {
+            Thread worker = new Thread(() -> {
+                FaultSet set = FaultSet.EMPTY;
+                for (Fault fault : faults) {
+                    set = set.plus(fault);
+                    set.hashCode();
+                }
+                actual.add(set);
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(Set.copyOf(expected), Set.copyOf(actual));
+    }
+
+    @Test
+    public void testFaultsAreNotRetained() throws InterruptedException {
+        Fault fault = new Fault(root.createChild().withPoint("Gc", "gc").uid().intern(), modes.get(0));
+        WeakReference<FaultUid> uid = new WeakReference<>(fault.uid());
+
+        // Faults are only held by the sets that contain them
+        assertEquals(2, FaultSet.of(f1, fault).size());
+        fault = null;
+
+        for (int i = 0; i < 50 && uid.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(uid.get());
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.delanoflipse.fit.suite.unit.models;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.delanoflipse.fit.suite.faultload.FaultInjectionPoint;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
+
+public class FaultUidInterningTest {
+    private final FaultInjectionPoint root = FaultInjectionPoint.of("A", "*", "*", Map.of(), 0);
+    private final FaultInjectionPoint point = FaultInjectionPoint.of("B", "GET /", "abc", Map.of("x", 1), 0);
+
+    @Test
+    public void testEqualValuesShareInstance() {
+        FaultUid uid = FaultUid.of(List.of(root, point));
+        FaultUid copy = new FaultUid(List.of(
+                new FaultInjectionPoint("A", "*", "*", Map.of(), 0),
+                new FaultInjectionPoint("B", "GET /", "abc", Map.of("x", 1), 0)));
+
+        assertTrue(uid.getId() >= 0);
+        assertEquals(-1, copy.getId());
+        assertEquals(uid, copy);
+        assertEquals(uid.hashCode(), copy.hashCode());
+        assertSame(uid, copy.intern());
+    }
+
+    @Test
+    public void testDerivedUidsAreCanonical() {
+        FaultUid uid = FaultUid.of(List.of(root, point));
+
+        assertSame(uid.getParent(), FaultUid.of(List.of(root)));
+        assertSame(uid.asAnyCount(), uid.withCount(-1));
+        assertSame(uid, uid.asAnyCount().withCount(0));
+        assertNotEquals(uid.getId(), uid.asAnyCount().getId());
+    }
+
+    @Test
+    public void testDeserializationIsInterned() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        FaultUid uid = FaultUid.of(List.of(root, point));
+        String json = mapper.writeValueAsString(uid);
+
+        FaultUid read = mapper.readValue(json, FaultUid.class);
+        assertSame(uid, read);
+        assertSame(point, read.getPoint());
+        assertEquals(json, mapper.writeValueAsString(read));
+    }
+
+    @Test
+    public void testUnusedUidsAreDropped() throws InterruptedException {
+        WeakReference<FaultUid> dropped = new WeakReference<>(
+                FaultUid.of(List.of(root, FaultInjectionPoint.of("Gc", "GET /", "*", Map.of(), 0))));
+
+        for (int i = 0; i < 50 && dropped.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(dropped.get());
+
+        // Interning the same value again gives a new canonical instance
+        FaultUid uid = FaultUid.of(List.of(root, FaultInjectionPoint.of("Gc", "GET /", "*", Map.of(), 0)));
+        assertTrue(uid.getId() >= 0);
+        assertSame(uid, FaultUid.of(List.of(root, FaultInjectionPoint.of("Gc", "GET /", "*", Map.of(), 0))));
+    }
+}
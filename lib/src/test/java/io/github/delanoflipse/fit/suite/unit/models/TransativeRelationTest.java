@@ -1,5 +1,9 @@
 package io.github.delanoflipse.fit.suite.unit.models;
 
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -69,4 +73,29 @@ public class TransativeRelationTest {
         }
     }
 
+    @Test
+    public void testTryAddCircular() {
+        TransativeRelation<String> relation = new TransativeRelation<>();
+        assertTrue(relation.tryAddRelation("A", "B"));
+        assertTrue(relation.tryAddRelation("B", "C"));
+        assertFalse(relation.tryAddRelation("C", "A"));
+        assertFalse(relation.tryAddRelation("B", "B"));
+        assertFalse(relation.hasTransativeRelation("C", "A"));
+        assertTrue(relation.hasTransativeRelation("A", "C"));
+    }
+
+    @Test
+    public void testTopologicalOrder() {
+        TransativeRelation<String> relation = new TransativeRelation<>();
+        relation.addRelation("A", "B");
+        relation.addRelation("A", "C");
+        relation.addRelation("C", "D");
+        relation.addRelation("B", "D");
+        relation.addRelation("D", "E");
+
+        assertEquals(List.of("A", "B", "C", "D", "E"), relation.topologicalOrder());
+        assertEquals(Set.of("B", "C", "D", "E"), relation.getDecendants("A"));
+        assertTrue(relation.hasTransativeRelation("B", "E"));
+        assertEquals("A", relation.getRoot("E"));
+    }
 }
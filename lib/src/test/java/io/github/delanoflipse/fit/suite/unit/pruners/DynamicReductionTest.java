@@ -1,5 +1,6 @@
 package io.github.delanoflipse.fit.suite.unit.pruners;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 
+import io.github.delanoflipse.fit.suite.faultload.Behaviour;
 import io.github.delanoflipse.fit.suite.faultload.Fault;
 import io.github.delanoflipse.fit.suite.faultload.Faultload;
 import io.github.delanoflipse.fit.suite.faultload.modes.ErrorFault;
@@ -68,4 +70,45 @@ public class DynamicReductionTest {
         PruneDecision decision = pruner.prune(new Faultload(faultSet), contextMock);
         assertEquals(PruneDecision.PRUNE, decision);
     }
+
+    @Test
+    public void testNewHistoricResult() {
+        DynamicReductionPruner pruner = new DynamicReductionPruner();
+
+        HttpError propagated = HttpError.SERVICE_UNAVAILABLE;
+
+        // A -> B -> C
+        EventBuilder nodeA = new EventBuilder()
+                .withPoint("A", "a1")
+                .withResponse(propagated.getErrorCode(), "error");
+
+        EventBuilder nodeB = nodeA.createChild()
+                .withPoint("B", "b1")
+                .withResponse(propagated.getErrorCode(), "error");
+
+        EventBuilder nodeC = nodeB.createChild()
+                .withPoint("C", "c1")
+                .withFault(ErrorFault.fromError(propagated));
+
+        TraceAnalysis initialTrace = nodeA.buildTrace();
+        List<Pair<Set<Fault>, List<Behaviour>>> historic = new ArrayList<>();
+        FeedbackContext contextMock = mock(FeedbackContext.class);
+        when(contextMock.getHistoricResults()).thenReturn(historic);
+        when(contextMock.getHistoricResultsVersion()).thenReturn(0L);
+
+        Set<Fault> faultSet = Set.of(
+                new Fault(nodeB.uid(), ErrorFault.fromError(propagated)));
+        when(contextMock.getExpectedBehaviours(faultSet)).thenReturn(Set.of(
+                initialTrace.getReportByFaultUid(nodeA.uid()).getBehaviour(),
+                initialTrace.getReportByFaultUid(nodeB.uid()).getBehaviour()));
+
+        // Nothing is known of the effects yet
+        assertEquals(PruneDecision.KEEP, pruner.prune(new Faultload(faultSet), contextMock));
+
+        historic.add(Pair.of(nodeC.getFaults(), initialTrace.getBehaviours()));
+        when(contextMock.getHistoricResultsVersion()).thenReturn(1L);
+
+        // The new result is picked up by the same pruner
+        assertEquals(PruneDecision.PRUNE, pruner.prune(new Faultload(faultSet), contextMock));
+    }
 }
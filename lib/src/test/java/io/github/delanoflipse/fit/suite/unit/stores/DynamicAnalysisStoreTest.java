@@ -0,0 +1,129 @@
+package io.github.delanoflipse.fit.suite.unit.stores;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.Behaviour;
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.modes.FailureMode;
+import io.github.delanoflipse.fit.suite.strategy.components.PruneDecision;
+import io.github.delanoflipse.fit.suite.strategy.store.DynamicAnalysisStore;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsModel;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class DynamicAnalysisStoreTest {
+
+    @Test
+    public void testVersionOnlyMovesOnChange() {
+        List<FailureMode> modes = FailureModes.getModes(2);
+        DynamicAnalysisStore store = new DynamicAnalysisStore(modes, true);
+
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+
+        long initial = store.getVersion();
+        assertTrue(store.addFaultUid(b.uid()));
+        long afterPoint = store.getVersion();
+        assertTrue(afterPoint > initial);
+
+        // Known point, no change
+        store.addFaultUid(b.uid());
+        assertEquals(afterPoint, store.getVersion());
+
+        long implications = store.getImplicationsVersion();
+        store.addUpstreamEffect(a.uid(), List.of(b.uid()));
+        assertTrue(store.getImplicationsVersion() > implications);
+        assertTrue(store.getVersion() > afterPoint);
+
+        long historic = store.getHistoricResultsVersion();
+        store.addHistoricResult(Set.of(), List.of());
+        assertTrue(store.getHistoricResultsVersion() > historic);
+
+        Set<Fault> subset = Set.of(new Fault(b.uid(), modes.get(0)));
+        long beforePrune = store.getVersion();
+        assertTrue(store.pruneFaultSubset(subset));
+        assertTrue(store.getVersion() > beforePrune);
+
+        long afterPrune = store.getVersion();
+        store.pruneFaultSubset(subset);
+        assertEquals(afterPrune, store.getVersion());
+    }
+
+    @Test
+    public void testSubsetsReplaceSupersets() {
+        List<FailureMode> modes = FailureModes.getModes(2);
+        DynamicAnalysisStore store = new DynamicAnalysisStore(modes, true);
+
+        var a = new EventBuilder("A");
+        Fault b = new Fault(a.createChild("B").uid(), modes.get(0));
+        Fault c = new Fault(a.createChild("C").uid(), modes.get(1));
+        Fault d = new Fault(a.createChild("D").uid(), modes.get(0));
+
+        assertTrue(store.pruneFaultSubset(Set.of(b, c)));
+        assertTrue(store.pruneFaultSubset(Set.of(c, d)));
+        assertEquals(PruneDecision.PRUNE_SUPERSETS, store.isRedundant(Set.of(b, c, d)));
+        assertEquals(PruneDecision.KEEP, store.isRedundant(Set.of(b, d)));
+
+        // A smaller subset replaces its supersets
+        assertTrue(store.pruneFaultSubset(Set.of(c)));
+        assertFalse(store.pruneFaultSubset(Set.of(b, c)));
+        assertEquals(1, store.getRedundantFaultSubsets().size());
+
+        assertTrue(store.pruneFaultUidSubset(Set.of(b.uid(), d.uid())));
+        assertEquals(PruneDecision.PRUNE_SUPERSETS, store.isRedundant(Set.of(b, d)));
+
+        assertTrue(store.pruneFaultload(Set.of(d)));
+        assertFalse(store.pruneFaultload(Set.of(d)));
+        assertEquals(PruneDecision.PRUNE, store.isRedundant(Set.of(d)));
+        assertEquals(PruneDecision.KEEP, store.isRedundant(Set.of(b)));
+    }
+
+    @Test
+    public void testExpectedBehaviourOfChild() {
+        List<FailureMode> modes = FailureModes.getModes(2);
+        DynamicAnalysisStore store = new DynamicAnalysisStore(modes, true);
+
+        var a = new EventBuilder("A");
+        var b = a.createChild("B");
+        var c = a.createChild("C");
+        var d = c.createChild("D");
+        store.addUpstreamEffect(a.uid(), List.of(b.uid(), c.uid()));
+        store.addUpstreamEffect(c.uid(), List.of(d.uid()));
+
+        Fault faultB = new Fault(b.uid(), modes.get(0));
+        Fault faultD = new Fault(d.uid(), modes.get(1));
+        Set<Fault> parent = Set.of(faultB);
+        Set<Fault> child = Set.of(faultB, faultD);
+
+        Set<Behaviour> expected = new ImplicationsModel(store.getImplications()).getBehaviours(child);
+        ImplicationsModel model = store.getImplicationsModel();
+
+        assertEquals(4, store.getExpectedBehaviour(parent).size());
+        long hits = model.getMemoHits();
+        long misses = model.getMemoMisses();
+
+        // Only A, C and D are unfolded again, B is reused from the parent
+        assertEquals(expected, store.getExpectedBehaviour(child));
+        assertEquals(hits + 1, model.getMemoHits());
+        assertEquals(misses + 3, model.getMemoMisses());
+
+        // Cached expectations do not touch the model
+        assertEquals(expected, store.getExpectedBehaviour(Set.of(faultD, faultB)));
+        assertEquals(hits + 1, model.getMemoHits());
+        assertEquals(misses + 3, model.getMemoMisses());
+
+        // New implications invalidate the cached expectations
+        Fault faultC = new Fault(c.uid(), modes.get(0));
+        store.addExclusionForFaultUid(Set.of(faultB.asBehaviour()), c.uid());
+        assertEquals(new ImplicationsModel(store.getImplications()).getBehaviours(child),
+                store.getExpectedBehaviour(child));
+        assertEquals(new ImplicationsModel(store.getImplications()).getBehaviours(Set.of(faultB, faultC)),
+                store.getExpectedBehaviour(Set.of(faultB, faultC)));
+    }
+}
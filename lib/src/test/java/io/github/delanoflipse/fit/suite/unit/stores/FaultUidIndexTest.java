@@ -0,0 +1,67 @@
+package io.github.delanoflipse.fit.suite.unit.stores;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.FaultInjectionPoint;
+import io.github.delanoflipse.fit.suite.faultload.FaultUid;
+import io.github.delanoflipse.fit.suite.strategy.store.FaultUidIndex;
+
+public class FaultUidIndexTest {
+    private final FaultInjectionPoint root = FaultInjectionPoint.of("A", "*", "*", Map.of(), 0);
+
+    private FaultUid uid(String destination, String payload, int count) {
+        return FaultUid.of(List.of(root,
+                FaultInjectionPoint.of(destination, "GET /", payload, Map.of(), count)));
+    }
+
+    @Test
+    public void testWildcardMatches() {
+        FaultUidIndex index = new FaultUidIndex();
+        FaultUid b0 = uid("B", "x", 0);
+        FaultUid b1 = uid("B", "x", 1);
+        FaultUid c0 = uid("C", "*", 0);
+
+        assertTrue(index.add(b0));
+        assertTrue(index.add(b1));
+        assertTrue(index.add(c0));
+        assertFalse(index.add(b0));
+
+        assertEquals(List.of(b0, b1), index.getMatching(b0.asAnyCount()));
+        assertEquals(List.of(b1), index.getMatching(b1));
+        assertEquals(List.of(c0), index.getMatching(uid("C", "y", 0)));
+        assertEquals(List.of(b0, b1, c0), index.getMatching(uid("*", "*", -1)));
+        assertEquals(List.of(), index.getMatching(FaultUid.of(List.of(root))));
+    }
+
+    @Test
+    public void testIndexMatchesScan() {
+        Random random = new Random(7);
+        FaultUidIndex index = new FaultUidIndex();
+        List<FaultUid> known = new ArrayList<>();
+        String[] destinations = { "B", "C", "D", "*" };
+        String[] payloads = { "x", "y", "*" };
+
+        for (int i = 0; i < 200; i++) {
+            FaultUid uid = uid(destinations[random.nextInt(destinations.length)],
+                    payloads[random.nextInt(payloads.length)],
+                    random.nextInt(4) - 1);
+
+            List<FaultUid> expected = known.stream()
+                    .filter(uid::matches)
+                    .toList();
+            assertEquals(expected, index.getMatching(uid));
+
+            if (index.add(uid)) {
+                known.add(uid);
+            }
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package io.github.delanoflipse.fit.suite.unit.stores;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -216,6 +218,85 @@ public class ImplicationsStoreTest {
     assertEquals(1, faultyBehaviours(result));
   }
 
+  @Test
+  public void testReusedModelMatchesFreshModel() {
+    ImplicationsModel model = new ImplicationsModel(store);
+    var faultloads = List.of(
+        Set.<Fault>of(),
+        Set.of(new Fault(b.uid(), mode1)),
+        Set.of(new Fault(c.uid(), mode1)),
+        Set.of(new Fault(b.uid(), mode1), new Fault(f.uid(), mode2)));
+
+    for (var faultload : faultloads) {
+      assertEquals(getExpected(faultload), model.getBehaviours(faultload));
+    }
+
+    // Sibling subtrees are shared between the faultloads
+    assertTrue(model.getMemoHits() > 0);
+
+    // A change to the store invalidates the memoized subtrees
+    setupExclusion();
+    for (var faultload : faultloads) {
+      assertEquals(getExpected(faultload), model.getBehaviours(faultload));
+    }
+  }
+
+  @Test
+  public void testSubstitutionsByParentAreOrderedByCauses() {
+    Behaviour fb1 = new Behaviour(b.uid(), mode1);
+    Behaviour fc1 = new Behaviour(c.uid(), mode1);
+    store.addExclusionEffect(Set.of(fb1, fc1), f.uid());
+    store.addExclusionEffect(Set.of(fb1), c.uid());
+    store.addExclusionEffect(Set.of(fc1), b.uid());
+
+    var parent = a.uid().getPoint();
+    var expected = store.findExclusions(x -> x.effect().getParent().getPoint().matches(parent));
+    assertEquals(3, expected.size());
+    assertEquals(expected, store.getExclusionsByParentPoint(parent));
+    assertEquals(1, expected.get(0).causes().size());
+    assertEquals(2, expected.get(2).causes().size());
+  }
+
+  @Test
+  public void testSubstitutionVersionsWithoutCallStacks() {
+    // Points without a call stack, as sent by default
+    EventBuilder root = new EventBuilder().withPoint("A", "A1", null, 0);
+    Behaviour x = root.createChild().withPoint("X", "X1", null, 0).behaviour();
+    Behaviour y = root.createChild().withPoint("Y", "Y1", null, 0).behaviour();
+    EventBuilder nodeZ = root.createChild().withPoint("Z", "Z1", null, 0);
+    Behaviour v = nodeZ.createChild().withPoint("V", "V1", null, 0).behaviour();
+    Behaviour w = nodeZ.createChild().withPoint("W", "W1", null, 0).behaviour();
+
+    var rootPoint = root.behaviour().uid().getPoint();
+    var zPoint = nodeZ.behaviour().uid().getPoint();
+    long rootVersion = store.getSubstitutionVersion(rootPoint);
+    long zVersion = store.getSubstitutionVersion(zPoint);
+
+    store.addExclusionEffect(Set.of(new Behaviour(x.uid(), mode1)), y.uid());
+
+    assertEquals(rootVersion + 1, store.getSubstitutionVersion(rootPoint));
+    assertEquals(zVersion, store.getSubstitutionVersion(zPoint));
+    assertEquals(1, store.getExclusionsByParentPoint(rootPoint).size());
+    assertTrue(store.getExclusionsByParentPoint(zPoint).isEmpty());
+
+    store.addInclusionEffect(Set.of(new Behaviour(v.uid(), mode1)), w.uid());
+    assertEquals(rootVersion + 1, store.getSubstitutionVersion(rootPoint));
+    assertEquals(zVersion + 1, store.getSubstitutionVersion(zPoint));
+  }
+
+  @Test
+  public void testMemoIgnoresPertubationOrder() {
+    ImplicationsModel model = new ImplicationsModel(store);
+    Fault faultB = new Fault(b.uid(), mode1);
+    Fault faultF = new Fault(f.uid(), mode2);
+
+    var expected = model.getBehaviours(List.of(faultB, faultF));
+    long misses = model.getMemoMisses();
+
+    assertEquals(expected, model.getBehaviours(List.of(faultF, faultB)));
+    assertEquals(misses, model.getMemoMisses());
+  }
+
   @Test
   public void testHideB() {
     setupExclusion();
@@ -0,0 +1,126 @@
+package io.github.delanoflipse.fit.suite.unit.stores;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.FaultInjectionPoint;
+import io.github.delanoflipse.fit.suite.strategy.store.PointBuckets;
+
+public class PointBucketsTest {
+    private record Value(FaultInjectionPoint point, int size, int id) {
+    }
+
+    private static final Comparator<Value> bySize = Comparator.comparingInt(Value::size);
+
+    private FaultInjectionPoint point(String destination, String payload, int count) {
+        return point(destination, payload, Map.of(), count);
+    }
+
+    private FaultInjectionPoint point(String destination, String payload, Map<String, Integer> callStack,
+            int count) {
+        return FaultInjectionPoint.of(destination, "GET /", payload, callStack, count);
+    }
+
+    /** The values whose point matches, ordered by size and then insertion */
+    private List<Value> scan(List<Value> values, FaultInjectionPoint query) {
+        return values.stream()
+                .filter(value -> value.point().matches(query))
+                .sorted(bySize)
+                .toList();
+    }
+
+    @Test
+    public void testConcreteAndWildcardBuckets() {
+        PointBuckets<Value> buckets = new PointBuckets<>(Value::point, bySize);
+        Value b0 = new Value(point("B", "x", 0), 2, 0);
+        Value b1 = new Value(point("B", "x", 1), 1, 1);
+        Value anyB = new Value(point("B", "*", -1), 1, 2);
+        Value c0 = new Value(point("C", "x", 0), 0, 3);
+
+        assertTrue(PointBuckets.isConcrete(b0.point()));
+        assertFalse(PointBuckets.isConcrete(anyB.point()));
+
+        List.of(b0, b1, anyB, c0).forEach(buckets::add);
+
+        // Concrete lookups include matching wildcards, ordered by size
+        assertEquals(List.of(anyB, b0), buckets.get(b0.point()));
+        assertEquals(List.of(c0), buckets.get(c0.point()));
+        // Wildcard lookups scan all buckets
+        assertEquals(List.of(b1, anyB, b0), buckets.get(point("B", "x", -1)));
+
+        buckets.removeIf(point("B", "*", -1), value -> value.size() == 1);
+        assertEquals(List.of(b0), buckets.get(point("B", "x", -1)));
+        assertEquals(List.of(c0), buckets.get(c0.point()));
+    }
+
+    @Test
+    public void testWithoutCallStacks() {
+        PointBuckets<Value> buckets = new PointBuckets<>(Value::point, bySize);
+        Value b0 = new Value(point("B", "x", null, 0), 1, 0);
+        Value b0Stack = new Value(point("B", "x", Map.of("A", 1), 0), 0, 1);
+        Value b0Other = new Value(point("B", "x", Map.of("C", 1), 0), 2, 2);
+        Value c0 = new Value(point("C", "x", null, 0), 0, 3);
+
+        // A missing call stack matches any call stack, but still has a bucket
+        assertTrue(PointBuckets.isConcrete(b0.point()));
+        assertEquals(PointBuckets.bucketKey(b0.point()), PointBuckets.bucketKey(b0Stack.point()));
+
+        List.of(b0, b0Stack, b0Other, c0).forEach(buckets::add);
+
+        assertEquals(List.of(b0Stack, b0, b0Other), buckets.get(b0.point()));
+        assertEquals(List.of(b0Stack, b0), buckets.get(b0Stack.point()));
+        assertEquals(List.of(c0), buckets.get(c0.point()));
+
+        buckets.removeIf(b0Stack.point(), value -> true);
+        assertEquals(List.of(b0Other), buckets.get(b0.point()));
+    }
+
+    @Test
+    public void testBucketsMatchScan() {
+        Random random = new Random(11);
+        PointBuckets<Value> buckets = new PointBuckets<>(Value::point, bySize);
+        List<Value> values = new ArrayList<>();
+        String[] destinations = { "B", "C", "D", "*" };
+        String[] payloads = { "x", "y", "*" };
+        List<Map<String, Integer>> callStacks = new ArrayList<>();
+        callStacks.add(null);
+        callStacks.add(Map.of());
+        callStacks.add(Map.of("A", 1));
+
+        for (int i = 0; i < 500; i++) {
+            FaultInjectionPoint point = point(destinations[random.nextInt(destinations.length)],
+                    payloads[random.nextInt(payloads.length)],
+                    callStacks.get(random.nextInt(callStacks.size())),
+                    random.nextInt(4) - 1);
+
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    Value value = new Value(point, random.nextInt(3), i);
+                    buckets.add(value);
+                    values.add(value);
+                }
+
+                case 2 -> {
+                    int size = random.nextInt(3);
+                    Predicate<Value> filter = value -> value.size() == size;
+                    buckets.removeIf(point, filter);
+                    values.removeIf(value -> value.point().matches(point) && filter.test(value));
+                }
+
+                default -> {
+                }
+            }
+
+            assertEquals(scan(values, point), buckets.get(point));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.delanoflipse.fit.suite.unit.stores;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.strategy.store.SubsetStore;
+
+public class SubsetStoreTest {
+
+    @Test
+    public void testSubsetAndSupersetQueries() {
+        SubsetStore<Integer> store = new SubsetStore<>();
+        store.add(Set.of(1, 2));
+        store.add(Set.of(3));
+
+        assertTrue(store.hasSubsetOf(Set.of(1, 2, 4)));
+        assertTrue(store.hasSubsetOf(Set.of(3, 5)));
+        assertFalse(store.hasSubsetOf(Set.of(1, 4)));
+        assertFalse(store.hasSubsetOf(Set.of(7)));
+
+        assertTrue(store.hasSupersetOf(Set.of(2)));
+        assertTrue(store.hasSupersetOf(Set.of()));
+        assertFalse(store.hasSupersetOf(Set.of(2, 3)));
+        assertFalse(store.hasSupersetOf(Set.of(7)));
+
+        assertTrue(store.hasSet(Set.of(2, 1)));
+        assertFalse(store.hasSet(Set.of(1)));
+    }
+
+    @Test
+    public void testMinimizeRemovesSupersets() {
+        SubsetStore<Integer> store = new SubsetStore<>();
+        store.add(Set.of(1, 2, 3));
+        store.add(Set.of(2, 4));
+        store.add(Set.of(1, 2, 3, 4));
+        assertEquals(2, store.size());
+
+        store.add(Set.of(2));
+        assertEquals(List.of(Set.of(2)), store.getSets());
+        assertFalse(store.hasSupersetOf(Set.of(1)));
+        assertTrue(store.hasSubsetOf(Set.of(2, 9)));
+    }
+
+    @Test
+    public void testIndexMatchesScan() {
+        Random random = new Random(42);
+        SubsetStore<Integer> indexed = new SubsetStore<>();
+        // A custom equality is not indexed
+        SubsetStore<Integer> scanned = new SubsetStore<Integer>().withEquality(Integer::equals);
+
+        for (int i = 0; i < 500; i++) {
+            Set<Integer> set = randomSet(random);
+
+            assertEquals(scanned.hasSubsetOf(set), indexed.hasSubsetOf(set));
+            assertEquals(scanned.hasSupersetOf(set), indexed.hasSupersetOf(set));
+            assertEquals(scanned.hasSet(set), indexed.hasSet(set));
+
+            if (random.nextInt(3) == 0) {
+                scanned.add(set);
+                indexed.add(set);
+                assertEquals(scanned.getSets(), indexed.getSets());
+            }
+        }
+    }
+
+    private Set<Integer> randomSet(Random random) {
+        Set<Integer> set = new HashSet<>();
+        int size = 1 + random.nextInt(5);
+
+        while (set.size() < size) {
+            set.add(random.nextInt(12));
+        }
+
+        return set;
+    }
+}
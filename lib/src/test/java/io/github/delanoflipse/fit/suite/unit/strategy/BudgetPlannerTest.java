@@ -0,0 +1,35 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.strategy.BudgetPlanner;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class BudgetPlannerTest {
+    private final EventBuilder a = new EventBuilder("A");
+    private final EventBuilder b = a.createChild("B");
+    private final EventBuilder c = a.createChild("C");
+
+    private final Fault faultB = new Fault(b.uid(), FailureModes.getMode(0));
+    private final Fault faultC = new Fault(c.uid(), FailureModes.getMode(0));
+
+    @Test
+    public void testPrefersSmallFaultloads() {
+        BudgetPlanner planner = new BudgetPlanner(60_000, System.currentTimeMillis(), null);
+
+        assertTrue(planner.score(Set.of(faultB)) > planner.score(Set.of(faultB, faultC)));
+    }
+
+    @Test
+    public void testSkipsWhenOverBudget() {
+        BudgetPlanner planner = new BudgetPlanner(1_000, System.currentTimeMillis() - 2_000, null);
+
+        assertEquals(-1.0, planner.score(Set.of(faultB)), 0.0);
+    }
+}
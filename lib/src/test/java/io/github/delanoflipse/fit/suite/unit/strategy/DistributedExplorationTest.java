@@ -0,0 +1,136 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.strategy.FaultloadResult;
+import io.github.delanoflipse.fit.suite.strategy.StrategyRunner;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.HappyPathDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.ParentChildDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
+import io.github.delanoflipse.fit.suite.strategy.distributed.ExplorationCoordinator;
+import io.github.delanoflipse.fit.suite.strategy.distributed.ExplorationWorker;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore;
+import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
+import io.github.delanoflipse.fit.suite.unit.generators.DynamicExplorationTest;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class DistributedExplorationTest {
+    private final EventBuilder a = new EventBuilder("A");
+    private final EventBuilder b = a.createChild("B");
+    private final EventBuilder c = a.createChild("C");
+    private final EventBuilder d = c.createChild("D");
+
+    private final ImplicationsStore model = new ImplicationsStore();
+
+    public DistributedExplorationTest() {
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        model.addDownstreamRequests(c.uid(), List.of(d.uid()));
+    }
+
+    private StrategyRunner createRunner() {
+        StrategyRunner runner = new StrategyRunner(FailureModes.getModes(2));
+        runner.withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                TraversalOrder.DEPTH_FIRST_POST_ORDER, false))
+                .withComponent(new HappyPathDetector())
+                .withComponent(new ParentChildDetector());
+        return runner;
+    }
+
+    private void run(StrategyRunner runner, Collection<Set<Fault>> executed) {
+        run(runner, executed, -1);
+    }
+
+    private void run(StrategyRunner runner, Collection<Set<Fault>> executed, int limit) {
+        for (int i = 0; limit < 0 || i < limit; i++) {
+            TrackedFaultload next = runner.nextFaultload();
+            if (next == null) {
+                break;
+            }
+
+            executed.add(next.getFaultload().faultSet());
+            FaultloadResult simulated = DynamicExplorationTest.toResult(next.getFaultload(), model);
+            runner.handleResult(new FaultloadResult(next, simulated.trace, simulated.passed));
+        }
+    }
+
+    @Test
+    public void testWorkersExploreSameSpace() throws Exception {
+        Set<Set<Fault>> expected = new HashSet<>();
+        run(createRunner(), expected);
+
+        StrategyRunner coordinatorRunner = createRunner().withLanes(4);
+        List<Set<Fault>> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> workers = new ArrayList<>();
+
+        try (ExplorationCoordinator coordinator = new ExplorationCoordinator(coordinatorRunner, 0)) {
+            coordinator.start();
+
+            for (int i = 0; i < 3; i++) {
+                ExplorationWorker connection = new ExplorationWorker("localhost", coordinator.getPort());
+                StrategyRunner worker = createRunner().withCoordinator(connection, 2);
+                Thread thread = new Thread(() -> run(worker, executed));
+                workers.add(thread);
+                thread.start();
+            }
+
+            for (Thread thread : workers) {
+                thread.join(10_000);
+                assertTrue(!thread.isAlive());
+            }
+        }
+
+        // Every faultload is executed exactly once, by one of the workers
+        assertEquals(expected, Set.copyOf(executed));
+        assertEquals(expected.size(), executed.size());
+    }
+
+    @Test
+    public void testDisconnectedWorkerLeasesAreRetried() throws Exception {
+        Set<Set<Fault>> expected = new HashSet<>();
+        run(createRunner(), expected);
+
+        StrategyRunner coordinatorRunner = createRunner().withLanes(4);
+        List<Set<Fault>> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> workers = new ArrayList<>();
+
+        try (ExplorationCoordinator coordinator = new ExplorationCoordinator(coordinatorRunner, 0)) {
+            coordinator.start();
+
+            // Executes a few faultloads, and disconnects while holding leases
+            ExplorationWorker crashing = new ExplorationWorker("localhost", coordinator.getPort());
+            StrategyRunner crashingWorker = createRunner().withCoordinator(crashing, 2);
+            run(crashingWorker, executed, 3);
+            assertTrue(crashingWorker.nextFaultload() != null);
+            crashing.close();
+
+            for (int i = 0; i < 2; i++) {
+                ExplorationWorker connection = new ExplorationWorker("localhost", coordinator.getPort());
+                StrategyRunner worker = createRunner().withCoordinator(connection, 2);
+                Thread thread = new Thread(() -> run(worker, executed));
+                workers.add(thread);
+                thread.start();
+            }
+
+            for (Thread thread : workers) {
+                thread.join(10_000);
+                assertTrue(!thread.isAlive());
+            }
+        }
+
+        // The leases of the disconnected worker are executed by the others
+        assertEquals(expected, Set.copyOf(executed));
+        assertEquals(expected.size(), executed.size());
+    }
+}
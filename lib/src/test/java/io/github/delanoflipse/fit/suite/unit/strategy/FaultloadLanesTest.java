@@ -0,0 +1,75 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.strategy.FaultloadLanes;
+import io.github.delanoflipse.fit.suite.strategy.FaultloadResult;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+
+public class FaultloadLanesTest {
+
+    private FaultloadResult resultOf(TrackedFaultload faultload) {
+        return new FaultloadResult(faultload, null, true);
+    }
+
+    @Test
+    public void testCapacity() {
+        FaultloadLanes lanes = new FaultloadLanes(2);
+        assertTrue(lanes.isIdle());
+
+        TrackedFaultload first = new TrackedFaultload();
+        TrackedFaultload second = new TrackedFaultload();
+        lanes.issue(first);
+        assertFalse(lanes.isFull());
+        lanes.issue(second);
+        assertTrue(lanes.isFull());
+
+        lanes.complete(second, resultOf(second));
+        assertFalse(lanes.isFull());
+        assertFalse(lanes.isIdle());
+    }
+
+    @Test
+    public void testReleaseInIssueOrder() {
+        FaultloadLanes lanes = new FaultloadLanes(3);
+        TrackedFaultload first = new TrackedFaultload();
+        TrackedFaultload second = new TrackedFaultload();
+        TrackedFaultload third = new TrackedFaultload();
+        lanes.issue(first);
+        lanes.issue(second);
+        lanes.issue(third);
+
+        // Later faultloads wait on the first one
+        lanes.complete(third, resultOf(third));
+        lanes.complete(second, resultOf(second));
+        assertTrue(lanes.release().isEmpty());
+
+        lanes.complete(first, resultOf(first));
+        List<FaultloadResult> released = lanes.release();
+        assertEquals(3, released.size());
+        assertEquals(first, released.get(0).trackedFaultload);
+        assertEquals(second, released.get(1).trackedFaultload);
+        assertEquals(third, released.get(2).trackedFaultload);
+        assertTrue(lanes.isIdle());
+    }
+
+    @Test
+    public void testSkipDiscarded() {
+        FaultloadLanes lanes = new FaultloadLanes(2);
+        TrackedFaultload first = new TrackedFaultload();
+        TrackedFaultload second = new TrackedFaultload();
+        lanes.issue(first);
+        lanes.issue(second);
+
+        lanes.complete(first, null);
+        lanes.complete(second, resultOf(second));
+        List<FaultloadResult> released = lanes.release();
+        assertEquals(1, released.size());
+        assertEquals(second, released.get(0).trackedFaultload);
+    }
+}
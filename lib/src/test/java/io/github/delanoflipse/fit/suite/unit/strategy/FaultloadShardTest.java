@@ -0,0 +1,116 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.strategy.FaultloadShard;
+import io.github.delanoflipse.fit.suite.strategy.ShardReportMerger;
+import io.github.delanoflipse.fit.suite.strategy.StrategyRunner;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.HappyPathDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.ParentChildDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore;
+import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
+import io.github.delanoflipse.fit.suite.unit.generators.DynamicExplorationTest;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class FaultloadShardTest {
+    private final EventBuilder a = new EventBuilder("A");
+    private final EventBuilder b = a.createChild("B");
+    private final EventBuilder c = a.createChild("C");
+    private final EventBuilder d = c.createChild("D");
+
+    private final ImplicationsStore model = new ImplicationsStore();
+
+    public FaultloadShardTest() {
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        model.addDownstreamRequests(c.uid(), List.of(d.uid()));
+    }
+
+    private StrategyRunner createRunner() {
+        StrategyRunner runner = new StrategyRunner(FailureModes.getModes(2));
+        runner.withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                TraversalOrder.DEPTH_FIRST_POST_ORDER, false))
+                .withComponent(new HappyPathDetector())
+                .withComponent(new ParentChildDetector());
+        return runner;
+    }
+
+    private List<Set<Fault>> run(StrategyRunner runner) {
+        List<Set<Fault>> executed = new ArrayList<>();
+
+        while (true) {
+            TrackedFaultload next = runner.nextFaultload();
+            if (next == null) {
+                break;
+            }
+
+            executed.add(next.getFaultload().faultSet());
+            runner.registerRun();
+            runner.handleResult(DynamicExplorationTest.toResult(next.getFaultload(), model));
+        }
+
+        return executed;
+    }
+
+    @Test
+    public void testShardsPartitionTheSpace() {
+        Set<Set<Fault>> expected = new HashSet<>(run(createRunner()));
+        Set<Set<Fault>> union = new HashSet<>();
+        int total = 0;
+
+        for (int i = 0; i < 3; i++) {
+            List<Set<Fault>> executed = run(createRunner().withShard(new FaultloadShard(i, 3)));
+            assertTrue(executed.contains(Set.of()));
+            union.addAll(executed);
+            total += executed.size() - 1;
+        }
+
+        assertEquals(expected, union);
+        // Apart from the happy path, no faultload runs in more than one shard
+        assertEquals(expected.size() - 1, total);
+    }
+
+    @Test
+    public void testMergeReports(@TempDir Path dir) throws IOException {
+        List<Path> shardDirs = new ArrayList<>();
+        int total = 0;
+
+        for (int i = 0; i < 2; i++) {
+            StrategyRunner runner = createRunner().withShard(new FaultloadShard(i, 2));
+            runner.setOutputDir(dir.resolve("shard" + i));
+            runner.setContextName("Test");
+            total += run(runner).size() - 1;
+            runner.statistics.setSize(runner.getGenerator().spaceSize());
+            runner.statistics.report();
+            shardDirs.add(dir.resolve("shard" + i).resolve("Test").resolve("default"));
+        }
+
+        Path merged = dir.resolve("merged");
+        ShardReportMerger.merge(shardDirs, merged);
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode searchSpace = mapper.readTree(merged.resolve("search_space.json").toFile());
+        assertEquals(total, searchSpace.get("cases_run").asLong());
+        assertEquals(total + 1, searchSpace.get("total_run").asLong());
+        assertEquals(2, searchSpace.get("shards").asInt());
+
+        JsonNode generator = mapper.readTree(merged.resolve("DynamicExplorationGenerator.json").toFile());
+        assertEquals(total + 1, generator.get("stats").get("visited_faultloads").asInt());
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.faultload.Faultload;
+import io.github.delanoflipse.fit.suite.strategy.OutcomeCache;
+import io.github.delanoflipse.fit.suite.strategy.RunHistory;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class OutcomeCacheTest {
+    private final EventBuilder a = new EventBuilder("A");
+    private final EventBuilder b = a.createChild("B");
+    private final EventBuilder c = a.createChild("C");
+
+    private final Fault faultB = new Fault(b.uid(), FailureModes.getMode(0));
+    private final Fault faultC = new Fault(c.uid(), FailureModes.getMode(1));
+
+    private RunHistory.Entry entryOf(Faultload faultload, boolean passed) {
+        return new RunHistory.Entry(faultload.faultSet(), a.buildAll(), passed);
+    }
+
+    @Test
+    public void testPersistsAcrossReopen(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("outcomes.cache");
+        Faultload faultload = new Faultload(Set.of(faultB, faultC));
+
+        try (OutcomeCache cache = new OutcomeCache(file)) {
+            cache.put(faultload, "app", entryOf(faultload, false));
+            assertNotNull(cache.get(faultload, "app"));
+        }
+
+        try (OutcomeCache cache = new OutcomeCache(file)) {
+            assertEquals(1, cache.size());
+            RunHistory.Entry entry = cache.get(faultload, "app");
+            assertNotNull(entry);
+            assertEquals(false, entry.passed());
+            assertEquals(3, entry.reports().size());
+        }
+    }
+
+    @Test
+    public void testKeyIsCanonical(@TempDir Path dir) throws IOException {
+        Set<Fault> ordered = new LinkedHashSet<>(List.of(faultB, faultC));
+        Set<Fault> reversed = new LinkedHashSet<>(List.of(faultC, faultB));
+        Faultload faultload = new Faultload(ordered);
+
+        try (OutcomeCache cache = new OutcomeCache(dir.resolve("outcomes.cache"))) {
+            cache.put(faultload, "app", entryOf(faultload, true));
+
+            assertNotNull(cache.get(new Faultload(reversed), "app"));
+            assertNull(cache.get(faultload, "other-app"));
+            assertNull(cache.get(new Faultload(Set.of(faultB)), "app"));
+        }
+    }
+
+    @Test
+    public void testIgnoresIncompleteRecord(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("outcomes.cache");
+        Faultload faultload = new Faultload(Set.of(faultB));
+
+        try (OutcomeCache cache = new OutcomeCache(file)) {
+            cache.put(faultload, "app", entryOf(faultload, true));
+        }
+
+        long size = Files.size(file);
+        Files.write(file, new byte[] { 1, 2, 3 }, StandardOpenOption.APPEND);
+
+        try (OutcomeCache cache = new OutcomeCache(file)) {
+            assertEquals(1, cache.size());
+            assertEquals(size, Files.size(file));
+            assertNotNull(cache.get(faultload, "app"));
+        }
+    }
+
+    @Test
+    public void testSharedBetweenCaches(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("outcomes.cache");
+        Faultload first = new Faultload(Set.of(faultB));
+        Faultload second = new Faultload(Set.of(faultC));
+
+        try (OutcomeCache one = new OutcomeCache(file); OutcomeCache other = new OutcomeCache(file)) {
+            one.put(first, "app", entryOf(first, true));
+            other.put(second, "app", entryOf(second, false));
+
+            // Both see the records of the other, and neither overwrote the other
+            assertNotNull(other.get(first, "app"));
+            assertNotNull(one.get(second, "app"));
+            assertEquals(2, one.size());
+            assertEquals(2, other.size());
+        }
+
+        try (OutcomeCache cache = new OutcomeCache(file)) {
+            assertEquals(2, cache.size());
+        }
+    }
+
+    @Test
+    public void testRecordsSpanWindows(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("outcomes.cache");
+        List<Faultload> faultloads = List.of(
+                new Faultload(Set.of(faultB)),
+                new Faultload(Set.of(faultC)),
+                new Faultload(Set.of(faultB, faultC)));
+
+        try (OutcomeCache cache = new OutcomeCache(file, 64)) {
+            for (Faultload faultload : faultloads) {
+                cache.put(faultload, "app", entryOf(faultload, true));
+            }
+        }
+
+        try (OutcomeCache cache = new OutcomeCache(file, 64)) {
+            assertEquals(3, cache.size());
+
+            for (Faultload faultload : faultloads) {
+                assertEquals(faultload.faultSet(), cache.get(faultload, "app").faultload());
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.Faultload;
+import io.github.delanoflipse.fit.suite.strategy.PrunerScheduler;
+import io.github.delanoflipse.fit.suite.strategy.StrategyRunner;
+import io.github.delanoflipse.fit.suite.strategy.components.PruneContext;
+import io.github.delanoflipse.fit.suite.strategy.components.PruneDecision;
+import io.github.delanoflipse.fit.suite.strategy.components.Pruner;
+import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
+import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class PrunerSchedulerTest {
+
+    private static class MemoizedPruner implements Pruner {
+        int called = 0;
+
+        @Override
+        public PruneDecision prune(Faultload faultload, PruneContext context) {
+            called++;
+            return PruneDecision.PRUNE;
+        }
+
+        @Override
+        public long getVersion(PruneContext context) {
+            return 0;
+        }
+    }
+
+    @Test
+    public void testOrdersByHitsPerNanosecond() {
+        Pruner expensive = (faultload, context) -> PruneDecision.KEEP;
+        Pruner cheap = (faultload, context) -> PruneDecision.PRUNE;
+
+        PrunerScheduler scheduler = new PrunerScheduler(4);
+        scheduler.register(expensive);
+        scheduler.register(cheap);
+
+        for (int i = 0; i < 4; i++) {
+            List<Pruner> order = scheduler.getOrder();
+            // Warm-up keeps the registration order and checks all pruners
+            assertEquals(List.of(expensive, cheap), order);
+            assertFalse(scheduler.canShortCircuit());
+            scheduler.record(expensive, 10_000, false);
+            scheduler.record(cheap, 100, true);
+        }
+
+        assertEquals(List.of(cheap, expensive), scheduler.getOrder());
+        assertTrue(scheduler.canShortCircuit());
+
+        scheduler.skip(List.of(expensive));
+        assertEquals(1, scheduler.getSkipped());
+        assertEquals(10_000.0, scheduler.getEstimatedSavedNs(), 0.001);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMemoHitsAreNotTimed() {
+        MemoizedPruner pruner = new MemoizedPruner();
+        StrategyRunner runner = new StrategyRunner(FailureModes.getModes(2));
+        runner.withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                TraversalOrder.DEPTH_FIRST_POST_ORDER, false))
+                .withComponent(pruner)
+                .withAdaptivePruning();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(PruneDecision.PRUNE, runner.prune(new Faultload(Set.of())));
+        }
+
+        assertEquals(1, pruner.called);
+
+        Map<String, Object> report = runner.getPrunerScheduler().getReport();
+        Map<String, Object> stats = (Map<String, Object>) ((Map<String, Object>) report.get("pruners"))
+                .get("MemoizedPruner");
+        // Only the actual call counts towards the cost and hit rate
+        assertEquals(1L, stats.get("calls"));
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(4L, stats.get("memo_hits"));
+    }
+}
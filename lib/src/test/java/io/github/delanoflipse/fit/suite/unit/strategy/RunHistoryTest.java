@@ -0,0 +1,94 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.delanoflipse.fit.suite.strategy.RunHistory;
+import io.github.delanoflipse.fit.suite.strategy.StrategyRunner;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.HappyPathDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.ParentChildDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore;
+import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
+import io.github.delanoflipse.fit.suite.unit.generators.DynamicExplorationTest;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class RunHistoryTest {
+    private final EventBuilder a = new EventBuilder("A");
+    private final EventBuilder b = a.createChild("B");
+    private final EventBuilder c = a.createChild("C");
+    private final EventBuilder d = c.createChild("D");
+
+    private final Map<String, String> digests = Map.of("A", "a1", "B", "b1", "C", "c1", "D", "d1");
+
+    private StrategyRunner createRunner() {
+        StrategyRunner runner = new StrategyRunner(FailureModes.getModes(2));
+        runner.withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                TraversalOrder.DEPTH_FIRST_POST_ORDER, false))
+                .withComponent(new HappyPathDetector())
+                .withComponent(new ParentChildDetector());
+        return runner;
+    }
+
+    private int run(StrategyRunner runner) {
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        model.addDownstreamRequests(c.uid(), List.of(d.uid()));
+
+        int executed = 0;
+
+        while (true) {
+            TrackedFaultload next = runner.nextFaultload();
+            if (next == null) {
+                break;
+            }
+
+            executed++;
+            runner.handleResult(DynamicExplorationTest.toResult(next.getFaultload(), model));
+        }
+
+        return executed;
+    }
+
+    private int recordRun(Path dir, Map<String, String> current) throws IOException {
+        StrategyRunner runner = createRunner();
+
+        if (RunHistory.exists(dir)) {
+            runner.withPreviousRun(RunHistory.read(dir), current);
+        }
+
+        runner.withRunRecorder(new RunHistory.Recorder(dir, current));
+        return run(runner);
+    }
+
+    @Test
+    public void testUnchangedReusesAll(@TempDir Path dir) throws IOException {
+        int total = recordRun(dir, digests);
+        assertEquals(total, RunHistory.read(dir).size());
+
+        // Only the happy path is executed again
+        assertEquals(1, recordRun(dir, digests));
+        // The reused results are recorded for the next run as well
+        assertEquals(total, RunHistory.read(dir).size());
+    }
+
+    @Test
+    public void testChangedServiceIsReexecuted(@TempDir Path dir) throws IOException {
+        int total = recordRun(dir, digests);
+
+        Map<String, String> changed = Map.of("A", "a1", "B", "b1", "C", "c1", "D", "d2");
+        int executed = recordRun(dir, changed);
+
+        assertTrue(executed > 1);
+        assertTrue(executed < total);
+    }
+}
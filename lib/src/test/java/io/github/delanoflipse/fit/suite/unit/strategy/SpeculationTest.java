@@ -0,0 +1,107 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.github.delanoflipse.fit.suite.faultload.Fault;
+import io.github.delanoflipse.fit.suite.strategy.StrategyRunner;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.HappyPathDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.ParentChildDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
+import io.github.delanoflipse.fit.suite.strategy.components.pruners.DynamicReductionPruner;
+import io.github.delanoflipse.fit.suite.strategy.components.pruners.UnreachabilityPruner;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore;
+import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
+import io.github.delanoflipse.fit.suite.unit.generators.DynamicExplorationTest;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class SpeculationTest {
+    private final EventBuilder a = new EventBuilder("A");
+    private final EventBuilder b = a.createChild("B");
+    private final EventBuilder c = a.createChild("C");
+    private final EventBuilder d = c.createChild("D");
+    private final EventBuilder e = c.createChild("E");
+
+    private final ImplicationsStore model = new ImplicationsStore();
+
+    public SpeculationTest() {
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        model.addDownstreamRequests(c.uid(), List.of(d.uid(), e.uid()));
+    }
+
+    private StrategyRunner createRunner() {
+        StrategyRunner runner = new StrategyRunner(FailureModes.getModes(2));
+        runner.withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                TraversalOrder.DEPTH_FIRST_POST_ORDER, false))
+                .withComponent(new HappyPathDetector())
+                .withComponent(new ParentChildDetector());
+        return runner;
+    }
+
+    private StrategyRunner createPruningRunner() {
+        StrategyRunner runner = createRunner();
+        runner.withComponent(new UnreachabilityPruner())
+                .withComponent(new DynamicReductionPruner());
+        return runner;
+    }
+
+    private List<Set<Fault>> run(StrategyRunner runner) {
+        List<Set<Fault>> executed = new ArrayList<>();
+
+        while (true) {
+            TrackedFaultload next = runner.nextFaultload();
+            if (next == null) {
+                break;
+            }
+
+            executed.add(next.getFaultload().faultSet());
+            runner.handleResult(DynamicExplorationTest.toResult(next.getFaultload(), model));
+        }
+
+        return executed;
+    }
+
+    @Test
+    public void testSpeculationExploresSameSpace() {
+        List<Set<Fault>> expected = run(createRunner());
+
+        for (int depth : new int[] { 1, 3, 16 }) {
+            StrategyRunner runner = createRunner().withSpeculation(depth);
+            List<Set<Fault>> executed = run(runner);
+
+            // Speculated faultloads are never handed out twice, nor lost
+            assertEquals(executed.size(), new HashSet<>(executed).size());
+            assertEquals(new HashSet<>(expected), new HashSet<>(executed));
+
+            // Speculated faultloads are kept, instead of generated again
+            assertEquals(executed.size() - 1, runner.statistics.getTotalGenerated());
+        }
+    }
+
+    @Test
+    public void testSpeculationIsPrunedByNewResults() {
+        Set<Set<Fault>> space = new HashSet<>(run(createRunner()));
+        int pruned = run(createPruningRunner()).size();
+
+        for (int depth : new int[] { 1, 3, 16 }) {
+            StrategyRunner runner = createPruningRunner().withSpeculation(depth);
+            List<Set<Fault>> executed = run(runner);
+
+            // Speculated faultloads may be handed out in a different order,
+            // but are pruned by the results that came in meanwhile
+            assertEquals(executed.size(), new HashSet<>(executed).size());
+            assertTrue(space.containsAll(executed));
+            assertTrue(executed.size() < space.size());
+            assertTrue(pruned < space.size());
+            assertTrue(runner.statistics.getTotalGenerated() >= executed.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.delanoflipse.fit.suite.unit.strategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.delanoflipse.fit.suite.faultload.Faultload;
+import io.github.delanoflipse.fit.suite.strategy.StrategyRunner;
+import io.github.delanoflipse.fit.suite.strategy.TrackedFaultload;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.HappyPathDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.analyzers.ParentChildDetector;
+import io.github.delanoflipse.fit.suite.strategy.components.generators.DynamicExplorationGenerator;
+import io.github.delanoflipse.fit.suite.strategy.components.pruners.DynamicReductionPruner;
+import io.github.delanoflipse.fit.suite.strategy.components.pruners.UnreachabilityPruner;
+import io.github.delanoflipse.fit.suite.strategy.store.ImplicationsStore;
+import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
+import io.github.delanoflipse.fit.suite.unit.generators.DynamicExplorationTest;
+import io.github.delanoflipse.fit.suite.util.EventBuilder;
+import io.github.delanoflipse.fit.suite.util.FailureModes;
+
+public class StrategyCheckpointTest {
+    private final EventBuilder a = new EventBuilder("A");
+    private final EventBuilder b = a.createChild("B");
+    private final EventBuilder c = a.createChild("C");
+    private final EventBuilder d = c.createChild("D");
+
+    private StrategyRunner createRunner() {
+        StrategyRunner runner = new StrategyRunner(FailureModes.getModes(2));
+        runner.withComponent(new DynamicExplorationGenerator(runner.getStore(), runner::prune,
+                TraversalOrder.DEPTH_FIRST_POST_ORDER, false))
+                .withComponent(new HappyPathDetector())
+                .withComponent(new ParentChildDetector());
+        return runner;
+    }
+
+    private StrategyRunner createPruningRunner() {
+        StrategyRunner runner = createRunner();
+        runner.withComponent(new UnreachabilityPruner())
+                .withComponent(new DynamicReductionPruner());
+        return runner;
+    }
+
+    private ImplicationsStore createModel() {
+        ImplicationsStore model = new ImplicationsStore();
+        model.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+        model.addDownstreamRequests(c.uid(), List.of(d.uid()));
+        return model;
+    }
+
+    private List<Faultload> run(StrategyRunner runner, ImplicationsStore model, int limit) {
+        List<Faultload> visited = new ArrayList<>();
+
+        while (limit < 0 || visited.size() < limit) {
+            TrackedFaultload next = runner.nextFaultload();
+            if (next == null) {
+                break;
+            }
+
+            visited.add(next.getFaultload());
+            runner.handleResult(DynamicExplorationTest.toResult(next.getFaultload(), model));
+        }
+
+        return visited;
+    }
+
+    @Test
+    public void testResumeContinuesExploration(@TempDir Path dir) throws IOException {
+        ImplicationsStore model = createModel();
+        Path file = dir.resolve("checkpoint.json.gz");
+
+        List<Faultload> expected = run(createRunner(), model, -1);
+
+        StrategyRunner interrupted = createRunner().withCheckpoint(file, 1);
+        List<Faultload> firstHalf = run(interrupted, model, 4);
+        assertFalse(Files.notExists(file));
+
+        StrategyRunner resumed = createRunner().resumeFrom(file);
+        List<Faultload> secondHalf = run(resumed, model, -1);
+
+        List<Faultload> combined = new ArrayList<>(firstHalf);
+        combined.addAll(secondHalf);
+        assertEquals(expected, combined);
+    }
+
+    @Test
+    public void testWarmStartKeepsMatchingKnowledge(@TempDir Path dir) throws IOException {
+        ImplicationsStore model = createModel();
+        Path file = dir.resolve("knowledge.json.gz");
+
+        StrategyRunner cold = createRunner().withKnowledgeBase(file);
+        run(cold, model, -1);
+        assertTrue(Files.exists(file));
+
+        StrategyRunner warm = createRunner().withKnowledgeBase(file);
+        assertTrue(warm.getStore().hasFaultUid(d.uid()));
+
+        run(warm, model, 1);
+        assertFalse(warm.isKnowledgeDiscarded());
+        assertTrue(warm.getStore().hasFaultUid(d.uid()));
+        assertEquals(cold.getStore().getPoints().size(), warm.getStore().getPoints().size());
+    }
+
+    @Test
+    public void testWarmStartDiscardsStaleKnowledge(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("knowledge.json.gz");
+        run(createRunner().withKnowledgeBase(file), createModel(), -1);
+
+        // D is no longer called
+        ImplicationsStore changed = new ImplicationsStore();
+        changed.addDownstreamRequests(a.uid(), List.of(b.uid(), c.uid()));
+
+        StrategyRunner warm = createRunner().withKnowledgeBase(file);
+        run(warm, changed, 1);
+        assertTrue(warm.isKnowledgeDiscarded());
+        assertFalse(warm.getStore().hasFaultUid(d.uid()));
+        assertTrue(warm.getStore().hasFaultUid(c.uid()));
+    }
+
+    @Test
+    public void testWarmStartPrunesFromTheStart(@TempDir Path dir) throws IOException {
+        ImplicationsStore model = createModel();
+        Path file = dir.resolve("knowledge.json.gz");
+
+        List<Faultload> cold = run(createPruningRunner().withKnowledgeBase(file), model, -1);
+
+        StrategyRunner warm = createPruningRunner().withKnowledgeBase(file);
+        List<Faultload> warmRun = run(warm, model, -1);
+        assertFalse(warm.isKnowledgeDiscarded());
+
+        // Everything after the happy path is already covered by the knowledge
+        assertTrue(cold.size() > 1);
+        assertEquals(List.of(new Faultload(Set.of())), warmRun);
+    }
+}
@@ -1,10 +1,12 @@
 package io.github.delanoflipse.fit.suite.unit.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Iterator;
 import java.util.List;
 
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 
 import io.github.delanoflipse.fit.suite.strategy.util.Pair;
 import io.github.delanoflipse.fit.suite.strategy.util.traversal.TraversalOrder;
@@ -66,4 +68,42 @@ public class TraversalTest {
         List<String> result = strategy.traverse("A", edges);
         assertEquals(List.of("A", "B", "D", "C", "E"), result);
     }
+
+    @Test
+    public void testDfsSharedChild() {
+        List<Pair<String, String>> shared = List.of(
+                new Pair<>("A", "B"),
+                new Pair<>("A", "C"),
+                new Pair<>("B", "C"),
+                new Pair<>("C", "D"));
+
+        // A claims C before B is visited
+        assertEquals(List.of("A", "B", "C", "D"),
+                new TraversalStrategy<String>(TraversalOrder.DEPTH_FIRST_PRE_ORDER).traverse("A", shared));
+        assertEquals(List.of("B", "D", "C", "A"),
+                new TraversalStrategy<String>(TraversalOrder.DEPTH_FIRST_POST_ORDER).traverse("A", shared));
+    }
+
+    @Test
+    public void testDeepChain() {
+        int depth = 100_000;
+        TraversalStrategy<Integer> strategy = new TraversalStrategy<>(TraversalOrder.DEPTH_FIRST_POST_ORDER);
+        List<Integer> result = strategy.traverse(0, node -> node < depth - 1 ? List.of(node + 1) : List.of());
+
+        assertEquals(depth, result.size());
+        assertEquals(Integer.valueOf(depth - 1), result.get(0));
+        assertEquals(Integer.valueOf(0), result.get(depth - 1));
+    }
+
+    @Test
+    public void testIteratorIsLazy() {
+        TraversalStrategy<Integer> strategy = new TraversalStrategy<>(TraversalOrder.DEPTH_FIRST_PRE_ORDER);
+        // An infinite tree, of which only the first nodes are visited
+        Iterator<Integer> iterator = strategy.iterator(1, node -> List.of(2 * node, 2 * node + 1));
+
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertEquals(Integer.valueOf(4), iterator.next());
+        assertTrue(iterator.hasNext());
+    }
 }